@@ -2,11 +2,18 @@ package com.example.ezpay.controller.admin;
 
 import com.example.ezpay.modules.admin.api.dto.*;
 import com.example.ezpay.modules.admin.internal.service.AdminService;
+import com.example.ezpay.modules.admin.internal.service.DashboardSnapshotService;
+import com.example.ezpay.modules.dashboard.dto.RollupRebuildResult;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupService;
 import com.example.ezpay.shared.common.dto.CommonResponse;
+import com.example.ezpay.shared.common.enums.TimeBucket;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -15,25 +22,39 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminDashboardController {
     private final AdminService adminService;
+    private final DashboardRollupService dashboardRollupService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
-    // Admin 대시보드 통계 조회
+    // Admin 대시보드 통계 조회 (공유 스냅샷)
     @GetMapping
     public ResponseEntity<CommonResponse<AdminDashboardInfo>> getDashboardStats() {
-        AdminDashboardInfo stats = adminService.getDashboardStats();
+        AdminDashboardInfo stats = dashboardSnapshotService.get().getStats();
         return ResponseEntity.ok(new CommonResponse<>("success", stats, "대시보드 통계 조회 성공"));
     }
 
-    // 대시보드 메트릭 조회 (관리자 대시보드 실시간 카드용)
+    // 대시보드 메트릭 조회 (관리자 대시보드 실시간 카드용, 공유 스냅샷)
     @GetMapping("/metrics")
     public ResponseEntity<CommonResponse<DashboardMetricsInfo>> getDashboardMetrics() {
-        DashboardMetricsInfo metrics = adminService.getDashboardMetrics();
+        DashboardMetricsInfo metrics = dashboardSnapshotService.get().getMetrics();
         return ResponseEntity.ok(new CommonResponse<>("success", metrics, "대시보드 메트릭 조회 성공"));
     }
 
-    // TPS 메트릭 조회
+    // 대시보드 스냅샷 전체 (통계 + 메트릭 + TPS, computedAt/validUntil 로 신선도 확인)
+    @GetMapping("/snapshot")
+    public ResponseEntity<CommonResponse<DashboardSnapshot>> getDashboardSnapshot() {
+        return ResponseEntity.ok(new CommonResponse<>("success", dashboardSnapshotService.get(), "대시보드 스냅샷 조회 성공"));
+    }
+
+    // 대시보드 집계 테이블 재구축 (거래/사용자 테이블 기준으로 다시 집계)
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<CommonResponse<RollupRebuildResult>> rebuildRollups() {
+        return ResponseEntity.ok(new CommonResponse<>("success", dashboardRollupService.rebuild(), "대시보드 집계 재구축 완료"));
+    }
+
+    // TPS 메트릭 조회 (공유 스냅샷)
     @GetMapping("/tps-metrics")
     public ResponseEntity<CommonResponse<TPSMetricsInfo>> getTPSMetrics() {
-        TPSMetricsInfo metrics = adminService.getTPSMetrics();
+        TPSMetricsInfo metrics = dashboardSnapshotService.get().getTps();
         return ResponseEntity.ok(new CommonResponse<>("success", metrics, "TPS 메트릭 조회 성공"));
     }
 
@@ -51,6 +72,21 @@ public class AdminDashboardController {
         return ResponseEntity.ok(new CommonResponse<>("success", hourlyStats, "시간대별 거래량 조회 성공"));
     }
 
+    // 사용자 지정 구간 거래 추이 (예: granularity=DAY&buckets=90 -> 최근 90일, granularity=MINUTE&buckets=360 -> 최근 6시간)
+    // from 을 생략하면 to(기본 현재) 가 속한 버킷까지 buckets 개
+    @GetMapping("/transaction-trend")
+    public ResponseEntity<CommonResponse<List<TransactionTrendPoint>>> getTransactionTrend(
+            @RequestParam(defaultValue = "HOUR") TimeBucket granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "24") int buckets,
+            @RequestParam(required = false) TransactionStatus status) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : granularity.plus(granularity.truncate(end), 1 - (long) Math.max(1, buckets));
+        List<TransactionTrendPoint> trend = adminService.getTransactionTrend(granularity, start, end, status);
+        return ResponseEntity.ok(new CommonResponse<>("success", trend, "거래 추이 조회 성공"));
+    }
+
     // 최근 활동 로그
     @GetMapping("/recent-activities")
     public ResponseEntity<CommonResponse<List<RecentActivityLog>>> getRecentActivities(
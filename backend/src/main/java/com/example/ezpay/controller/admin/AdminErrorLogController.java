@@ -2,6 +2,7 @@ package com.example.ezpay.controller.admin;
 
 import com.example.ezpay.modules.admin.api.dto.ErrorLogInfo;
 import com.example.ezpay.modules.admin.internal.service.AdminService;
+import com.example.ezpay.service.user.impl.ErrorLogWriter;
 import com.example.ezpay.shared.common.dto.CommonResponse;
 import com.example.ezpay.shared.common.enums.ErrorLogStatus;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminErrorLogController {
     private final AdminService adminService;
+    private final ErrorLogWriter errorLogWriter;
 
     // 모든 에러 로그 조회
     @GetMapping
@@ -43,4 +45,10 @@ public class AdminErrorLogController {
         adminService.deleteErrorLog(logId);
         return ResponseEntity.ok(new CommonResponse<>("success", "에러 로그 삭제 완료", "ERROR LOG DELETED"));
     }
+
+    // 장애 로그 비동기 기록 버퍼 상태 (대기/기록/누락/실패 건수)
+    @GetMapping("/buffer")
+    public ResponseEntity<CommonResponse<ErrorLogWriter.Stats>> getErrorLogBufferStats() {
+        return ResponseEntity.ok(new CommonResponse<>("success", errorLogWriter.stats(), "장애 로그 버퍼 조회 성공"));
+    }
 }
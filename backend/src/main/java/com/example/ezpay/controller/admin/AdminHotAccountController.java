@@ -0,0 +1,45 @@
+package com.example.ezpay.controller.admin;
+
+import com.example.ezpay.modules.payment.api.dto.HotAccountInfo;
+import com.example.ezpay.modules.payment.internal.service.HotAccountBalanceService;
+import com.example.ezpay.shared.common.dto.CommonResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 핫 계좌(분산 잔액 슬롯) 지정/해제 API
+@RestController
+@RequestMapping("/admin/hot-accounts")
+@RequiredArgsConstructor
+public class AdminHotAccountController {
+
+    private final HotAccountBalanceService hotAccountBalanceService;
+
+    @GetMapping
+    public ResponseEntity<CommonResponse<List<HotAccountInfo>>> getHotAccounts() {
+        return ResponseEntity.ok(new CommonResponse<>("success", hotAccountBalanceService.getHotAccounts(), "핫 계좌 목록 조회 성공"));
+    }
+
+    @GetMapping("/{accountId}")
+    public ResponseEntity<CommonResponse<HotAccountInfo>> getHotAccount(@PathVariable Long accountId) {
+        return ResponseEntity.ok(new CommonResponse<>("success", hotAccountBalanceService.getHotAccountInfo(accountId), "핫 계좌 조회 성공"));
+    }
+
+    @PutMapping("/{accountId}")
+    public ResponseEntity<CommonResponse<HotAccountInfo>> enableHotAccount(@PathVariable Long accountId) {
+        return ResponseEntity.ok(new CommonResponse<>("success", hotAccountBalanceService.enable(accountId), "핫 계좌 지정 완료"));
+    }
+
+    @DeleteMapping("/{accountId}")
+    public ResponseEntity<CommonResponse<HotAccountInfo>> disableHotAccount(@PathVariable Long accountId) {
+        return ResponseEntity.ok(new CommonResponse<>("success", hotAccountBalanceService.disable(accountId), "핫 계좌 해제 완료"));
+    }
+
+    @PostMapping("/{accountId}/consolidate")
+    public ResponseEntity<CommonResponse<HotAccountInfo>> consolidate(@PathVariable Long accountId) {
+        hotAccountBalanceService.consolidate(accountId);
+        return ResponseEntity.ok(new CommonResponse<>("success", hotAccountBalanceService.getHotAccountInfo(accountId), "핫 계좌 잔액 합산 완료"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ezpay.controller.admin;
+
+import com.example.ezpay.modules.ledger.dto.LedgerBalanceInfo;
+import com.example.ezpay.modules.ledger.dto.LedgerEntryInfo;
+import com.example.ezpay.modules.ledger.dto.LedgerReconciliationResult;
+import com.example.ezpay.modules.ledger.service.LedgerService;
+import com.example.ezpay.shared.common.dto.CommonResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+// 원장(분개/스냅샷) 조회 및 대사 API
+@RestController
+@RequestMapping("/admin/ledger")
+@RequiredArgsConstructor
+public class AdminLedgerController {
+
+    private final LedgerService ledgerService;
+
+    // 특정 시점 잔액 (asOf 생략 시 현재)
+    @GetMapping("/accounts/{accountId}/balance")
+    public ResponseEntity<CommonResponse<LedgerBalanceInfo>> getBalanceAsOf(@PathVariable Long accountId,
+                                                                            @RequestParam(required = false)
+                                                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        LedgerBalanceInfo balance = ledgerService.getBalanceAsOf(accountId, asOf != null ? asOf : LocalDateTime.now());
+        return ResponseEntity.ok(new CommonResponse<>("success", balance, "원장 잔액 조회 성공"));
+    }
+
+    @GetMapping("/accounts/{accountId}/entries")
+    public ResponseEntity<CommonResponse<Page<LedgerEntryInfo>>> getEntries(@PathVariable Long accountId,
+                                                                            @RequestParam(defaultValue = "0") int page,
+                                                                            @RequestParam(defaultValue = "50") int size) {
+        Page<LedgerEntryInfo> entries = ledgerService.getEntries(accountId, PageRequest.of(page, Math.min(size, 500)));
+        return ResponseEntity.ok(new CommonResponse<>("success", entries, "원장 분개 조회 성공"));
+    }
+
+    @GetMapping("/reconciliation")
+    public ResponseEntity<CommonResponse<LedgerReconciliationResult>> getLastReconciliation() {
+        return ResponseEntity.ok(new CommonResponse<>("success", ledgerService.getLastReconciliation().orElse(null), "최근 원장 대사 결과 조회 성공"));
+    }
+
+    @PostMapping("/reconciliation")
+    public ResponseEntity<CommonResponse<LedgerReconciliationResult>> reconcile() {
+        return ResponseEntity.ok(new CommonResponse<>("success", ledgerService.reconcile(), "원장 대사 완료"));
+    }
+
+    @PostMapping("/snapshots")
+    public ResponseEntity<CommonResponse<Integer>> createSnapshots() {
+        return ResponseEntity.ok(new CommonResponse<>("success", ledgerService.createSnapshots(), "원장 스냅샷 생성 완료"));
+    }
+}
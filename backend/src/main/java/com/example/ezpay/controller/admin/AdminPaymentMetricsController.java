@@ -0,0 +1,55 @@
+package com.example.ezpay.controller.admin;
+
+import com.example.ezpay.modules.notification.internal.service.NotificationPreferenceCache;
+import com.example.ezpay.modules.payment.api.dto.TransferContentionStats;
+import com.example.ezpay.modules.payment.api.dto.TransferStageLatency;
+import com.example.ezpay.modules.payment.internal.service.TransactionService;
+import com.example.ezpay.modules.payment.internal.service.TransferLimitCache;
+import com.example.ezpay.shared.common.dto.CommonResponse;
+import com.example.ezpay.shared.util.TtlCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 송금 처리 성능 지표 API (동시성 제어 방식 비교/벤치마크용)
+@RestController
+@RequestMapping("/admin/payment/metrics")
+@RequiredArgsConstructor
+public class AdminPaymentMetricsController {
+
+    private final TransactionService transactionService;
+    private final TransferLimitCache transferLimitCache;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+
+    @GetMapping("/contention")
+    public ResponseEntity<CommonResponse<TransferContentionStats>> getContentionStats() {
+        return ResponseEntity.ok(new CommonResponse<>("success", transactionService.getContentionStats(), "송금 경합 지표 조회 성공"));
+    }
+
+    @DeleteMapping("/contention")
+    public ResponseEntity<CommonResponse<String>> resetContentionStats() {
+        transactionService.resetContentionStats();
+        return ResponseEntity.ok(new CommonResponse<>("success", "송금 경합 지표 초기화 완료", "CONTENTION STATS RESET"));
+    }
+
+    // 구간별(PRODUCE ~ SIDE_EFFECTS) 지연 시간 분위수
+    @GetMapping("/latency")
+    public ResponseEntity<CommonResponse<List<TransferStageLatency>>> getLatencyStats() {
+        return ResponseEntity.ok(new CommonResponse<>("success", transactionService.getLatencyStats(), "송금 구간별 지연 시간 조회 성공"));
+    }
+
+    @DeleteMapping("/latency")
+    public ResponseEntity<CommonResponse<String>> resetLatencyStats() {
+        transactionService.resetLatencyStats();
+        return ResponseEntity.ok(new CommonResponse<>("success", "송금 구간별 지연 시간 초기화 완료", "LATENCY STATS RESET"));
+    }
+
+    // 송금 한도/알림 설정 캐시 적중률
+    @GetMapping("/settings-cache")
+    public ResponseEntity<CommonResponse<List<TtlCache.Stats>>> getSettingsCacheStats() {
+        List<TtlCache.Stats> stats = List.of(transferLimitCache.stats(), notificationPreferenceCache.stats());
+        return ResponseEntity.ok(new CommonResponse<>("success", stats, "사용자 설정 캐시 지표 조회 성공"));
+    }
+}
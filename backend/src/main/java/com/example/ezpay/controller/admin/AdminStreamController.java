@@ -29,4 +29,9 @@ public class AdminStreamController {
     public SseEmitter streamActivities() {
         return sseEmitterRegistry.register("activities");
     }
+
+    @GetMapping("/transfer-latency")
+    public SseEmitter streamTransferLatency() {
+        return sseEmitterRegistry.register("transfer-latency");
+    }
 }
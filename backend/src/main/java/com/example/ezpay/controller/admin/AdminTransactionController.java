@@ -1,12 +1,23 @@
 package com.example.ezpay.controller.admin;
 
+import com.example.ezpay.modules.admin.api.dto.TransactionCursorPage;
 import com.example.ezpay.modules.admin.internal.service.AdminService;
+import com.example.ezpay.modules.admin.internal.service.TransactionExportService;
 import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
+import com.example.ezpay.repository.queryDSL.TransactionSearchCondition;
 import com.example.ezpay.shared.common.dto.CommonResponse;
+import com.example.ezpay.shared.common.enums.TransactionExportFormat;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -15,14 +26,58 @@ import java.util.List;
 public class AdminTransactionController {
 
     private final AdminService adminService;
+    private final TransactionExportService transactionExportService;
 
-    // 모든 거래 내역 조회
+    // 거래 내역 조회 (필터 + 커서 페이지, 최신순)
+    @GetMapping
+    public ResponseEntity<CommonResponse<TransactionCursorPage>> searchTransactions(
+            @RequestParam(required = false) TransactionStatus status,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        TransactionSearchCondition condition = TransactionSearchCondition.builder()
+                .status(status)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .accountId(accountId)
+                .category(category)
+                .from(from)
+                .to(to)
+                .build();
+        TransactionCursorPage page = adminService.searchTransactions(condition, cursor, size);
+        return ResponseEntity.ok(new CommonResponse<>("success", page, "거래 내역 조회 성공"));
+    }
+
+    // 최근 거래 내역 조회 (상한 건수까지)
     @GetMapping("/all")
     public ResponseEntity<CommonResponse<List<TransactionInfo>>> getAllTransactions() {
         List<TransactionInfo> transactions = adminService.getAllTransactions();
         return ResponseEntity.ok(new CommonResponse<>("success", transactions, "모든 거래 내역 조회 성공 "));
     }
 
+    // 거래 내역 내보내기 (스트리밍, transactionId 오름차순 / 중단 시 마지막 ID 를 afterId 로 이어 받기)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "CSV") TransactionExportFormat format,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Long untilId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        TransactionExportService.ExportRange range = new TransactionExportService.ExportRange(afterId, untilId, from, to);
+        String filename = "transactions." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> transactionExportService.export(range, format, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     // 특정 내역 삭제
     @DeleteMapping("/{transactionId}")
     public ResponseEntity<CommonResponse<String>> deleteTransaction(@PathVariable Long transactionId) {
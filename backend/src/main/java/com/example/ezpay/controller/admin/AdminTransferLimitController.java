@@ -6,6 +6,7 @@ import com.example.ezpay.modules.payment.api.dto.TransferLimitRequest;
 import com.example.ezpay.shared.common.dto.CommonResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +18,14 @@ import java.util.List;
 public class AdminTransferLimitController {
     private final AdminService adminService;
 
+    // 사용자 송금 한도 페이지 조회
+    @GetMapping
+    public ResponseEntity<CommonResponse<Page<TransferLimitInfo>>> getTransferLimits(@RequestParam(defaultValue = "0") int page,
+                                                                                     @RequestParam(defaultValue = "50") int size) {
+        Page<TransferLimitInfo> transferLimits = adminService.getTransferLimits(page, size);
+        return ResponseEntity.ok(new CommonResponse<>("success", transferLimits, "송금 한도 조회 성공"));
+    }
+
     // 모든 사용자 송금 한도 조회
     @GetMapping("/all")
     public ResponseEntity<CommonResponse<List<TransferLimitInfo>>> getAllTransferLimits() {
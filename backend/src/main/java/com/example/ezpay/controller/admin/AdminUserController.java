@@ -1,6 +1,7 @@
 package com.example.ezpay.controller.admin;
 
 import com.example.ezpay.modules.account.api.dto.AccountInfo;
+import com.example.ezpay.modules.admin.api.dto.UserTransactionHistory;
 import com.example.ezpay.modules.admin.internal.service.AdminService;
 import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
 import com.example.ezpay.modules.user.api.dto.UserInfo;
@@ -46,6 +47,15 @@ public class AdminUserController {
         return ResponseEntity.ok(new CommonResponse<>("success", transactions, "회원 거래 내역 조회 성공"));
     }
 
+    // 특정 회원의 거래 내역 페이지 + 상태별 요약
+    @GetMapping("/{userId}/transactions/history")
+    public ResponseEntity<CommonResponse<UserTransactionHistory>> getUserTransactionHistory(@PathVariable Long userId,
+                                                                                           @RequestParam(defaultValue = "0") int page,
+                                                                                           @RequestParam(defaultValue = "50") int size) {
+        UserTransactionHistory history = adminService.getUserTransactionHistory(userId, page, size);
+        return ResponseEntity.ok(new CommonResponse<>("success", history, "회원 거래 내역 조회 성공"));
+    }
+
     // 회원 상태 변경
     @PatchMapping("/{userId}/status")
     public ResponseEntity<CommonResponse<String>> updateUserStatus(
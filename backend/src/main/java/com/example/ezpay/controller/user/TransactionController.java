@@ -2,16 +2,33 @@ package com.example.ezpay.controller.user;
 
 import com.example.ezpay.shared.exception.CustomNotFoundException;
 import com.example.ezpay.shared.exception.TransferLimitExceededException;
+import com.example.ezpay.shared.exception.TransferQueueFullException;
 import com.example.ezpay.model.user.Transaction;
 import com.example.ezpay.modules.payment.internal.service.TransactionService;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferItemInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferRequest;
+import com.example.ezpay.modules.payment.api.dto.ScheduledTransferInfo;
+import com.example.ezpay.modules.payment.api.dto.ScheduledTransferRequest;
 import com.example.ezpay.modules.payment.api.dto.TransferRequest;
+import com.example.ezpay.modules.payment.internal.service.BulkTransferCsvParser;
+import com.example.ezpay.modules.payment.internal.service.ScheduledTransferService;
+import com.example.ezpay.modules.payment.internal.service.TransferStatusNotifier;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
 import com.example.ezpay.shared.common.dto.CommonResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -19,6 +36,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TransactionController {
     private final TransactionService transactionService;
+    private final TransferStatusNotifier transferStatusNotifier;
+    private final ScheduledTransferService scheduledTransferService;
 
     // 송금 요청
     @PostMapping("/transfer")
@@ -30,12 +49,82 @@ public class TransactionController {
         } catch (IllegalArgumentException | CustomNotFoundException | TransferLimitExceededException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new CommonResponse<>("error", null, e.getMessage()));
+        } catch (TransferQueueFullException e) {
+            // 송금 큐가 가득 찬 경우 GlobalExceptionHandler 에서 503 + Retry-After 로 응답
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new CommonResponse<>("error", null, "서버 오류 발생"));
         }
     }
 
+    // 대량 송금 요청 (JSON)
+    @PostMapping("/bulk-transfer")
+    public ResponseEntity<CommonResponse<BulkTransferInfo>> bulkTransfer(@Valid @RequestBody BulkTransferRequest bulkTransferRequest) {
+        BulkTransferInfo bulkTransfer = transactionService.createBulkTransfer(bulkTransferRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new CommonResponse<>("success", bulkTransfer, "BULK_TRANSFER_ACCEPTED"));
+    }
+
+    // 대량 송금 요청 (CSV 파일: toAccountId,amount[,memo[,category]])
+    @PostMapping(value = "/bulk-transfer/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CommonResponse<BulkTransferInfo>> bulkTransferFile(@RequestParam Long fromAccountId,
+                                                                             @RequestParam(required = false) String bulkRequestId,
+                                                                             @RequestParam MultipartFile file) throws IOException {
+        BulkTransferRequest bulkTransferRequest = new BulkTransferRequest();
+        bulkTransferRequest.setFromAccountId(fromAccountId);
+        bulkTransferRequest.setBulkRequestId(bulkRequestId);
+        bulkTransferRequest.setItems(BulkTransferCsvParser.parse(file.getInputStream()));
+        if (bulkTransferRequest.getItems().isEmpty()) {
+            throw new IllegalArgumentException("송금 목록이 비어있습니다.");
+        }
+
+        BulkTransferInfo bulkTransfer = transactionService.createBulkTransfer(bulkTransferRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new CommonResponse<>("success", bulkTransfer, "BULK_TRANSFER_ACCEPTED"));
+    }
+
+    // 대량 송금 진행률 조회
+    @GetMapping("/bulk-transfer/{bulkRequestId}")
+    public ResponseEntity<CommonResponse<BulkTransferInfo>> getBulkTransfer(@PathVariable String bulkRequestId) {
+        BulkTransferInfo bulkTransfer = transactionService.getBulkTransfer(bulkRequestId);
+        return ResponseEntity.ok(new CommonResponse<>("success", bulkTransfer, "대량 송금 조회 성공"));
+    }
+
+    // 대량 송금 건별 상태 조회
+    @GetMapping("/bulk-transfer/{bulkRequestId}/items")
+    public ResponseEntity<CommonResponse<Page<BulkTransferItemInfo>>> getBulkTransferItems(@PathVariable String bulkRequestId,
+                                                                                          @RequestParam(required = false) TransactionStatus status,
+                                                                                          @RequestParam(defaultValue = "0") int page,
+                                                                                          @RequestParam(defaultValue = "100") int size) {
+        Page<BulkTransferItemInfo> items = transactionService.getBulkTransferItems(bulkRequestId, status, page, Math.min(size, 1000));
+        return ResponseEntity.ok(new CommonResponse<>("success", items, "대량 송금 항목 조회 성공"));
+    }
+
+    // 예약/반복 송금 등록 (ONCE, DAILY, WEEKLY, MONTHLY)
+    @PostMapping("/scheduled-transfers")
+    public ResponseEntity<CommonResponse<ScheduledTransferInfo>> createScheduledTransfer(@Valid @RequestBody ScheduledTransferRequest request,
+                                                                                        Authentication authentication) {
+        ScheduledTransferInfo schedule = scheduledTransferService.createScheduledTransfer(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new CommonResponse<>("success", schedule, "SCHEDULED_TRANSFER_CREATED"));
+    }
+
+    // 내 예약 송금 목록
+    @GetMapping("/scheduled-transfers")
+    public ResponseEntity<CommonResponse<List<ScheduledTransferInfo>>> getScheduledTransfers(Authentication authentication) {
+        List<ScheduledTransferInfo> schedules = scheduledTransferService.getScheduledTransfers(authentication.getName());
+        return ResponseEntity.ok(new CommonResponse<>("success", schedules, "예약 송금 조회 성공"));
+    }
+
+    // 예약 송금 취소 (이미 발행된 회차는 취소되지 않음)
+    @DeleteMapping("/scheduled-transfers/{scheduleId}")
+    public ResponseEntity<CommonResponse<ScheduledTransferInfo>> cancelScheduledTransfer(@PathVariable Long scheduleId,
+                                                                                        Authentication authentication) {
+        ScheduledTransferInfo schedule = scheduledTransferService.cancelScheduledTransfer(authentication.getName(), scheduleId);
+        return ResponseEntity.ok(new CommonResponse<>("success", schedule, "SCHEDULED_TRANSFER_CANCELLED"));
+    }
+
     // 송금 처리 상태 조회 (비동기 처리용)
     @GetMapping("/transfer/{requestId}")
     public ResponseEntity<CommonResponse<Transaction>> getTransferByRequestId(@PathVariable String requestId) {
@@ -43,6 +132,19 @@ public class TransactionController {
         return ResponseEntity.ok(new CommonResponse<>("success", transaction, "송금 조회 성공"));
     }
 
+    // 송금 처리 상태 long-poll (처리 완료 즉시 응답, waitMs 경과 시 202 TRANSFER_PENDING)
+    @GetMapping(value = "/transfer/{requestId}", params = "waitMs")
+    public DeferredResult<ResponseEntity<CommonResponse<Transaction>>> awaitTransferByRequestId(@PathVariable String requestId,
+                                                                                               @RequestParam long waitMs) {
+        return transferStatusNotifier.awaitCompletion(requestId, waitMs);
+    }
+
+    // 내 송금 처리 결과 SSE 스트림 (폴링 대체)
+    @GetMapping(value = "/transfer/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTransferStatus(Authentication authentication) {
+        return transferStatusNotifier.subscribe(authentication.getName());
+    }
+
 
     // 특정 계좌의 거래 내역 조회
     @GetMapping("/account/{accountId}")
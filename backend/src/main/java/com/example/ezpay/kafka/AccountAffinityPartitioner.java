@@ -0,0 +1,62 @@
+package com.example.ezpay.kafka;
+
+import com.example.ezpay.shared.common.enums.TransferPartitionKey;
+import com.example.ezpay.shared.messaging.events.TransferEvent;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 송금 이벤트를 계좌 기준으로 파티션에 배정하는 Partitioner
+ * - 레코드 키는 추적용 requestId 를 유지하고, 파티션은 이벤트의 계좌 ID 로 결정
+ * - 같은 계좌(또는 계좌 쌍)의 송금은 항상 같은 파티션 → 컨슈머 스레드 하나가 순서대로 처리
+ * - 파티션 수를 늘리면 배정이 바뀌므로, 변경 시점에 처리 중인 이벤트는 순서가 보장되지 않는다.
+ */
+public class AccountAffinityPartitioner implements Partitioner {
+
+    public static final String PARTITION_KEY_CONFIG = "ezpay.transfer.partition-key";
+
+    private TransferPartitionKey partitionKey = TransferPartitionKey.SENDER;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        Object configured = configs.get(PARTITION_KEY_CONFIG);
+        if (configured != null) {
+            partitionKey = TransferPartitionKey.valueOf(configured.toString().trim().toUpperCase());
+        }
+    }
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+        int numPartitions = cluster.partitionsForTopic(topic).size();
+        if (numPartitions <= 1) {
+            return 0;
+        }
+
+        if (value instanceof TransferEvent event && event.getFromAccountId() != null) {
+            return toPartition(affinityKey(event).getBytes(StandardCharsets.UTF_8), numPartitions);
+        }
+        // 계좌 정보가 없는 레코드는 키 해시로 분산
+        return keyBytes != null ? toPartition(keyBytes, numPartitions) : 0;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private String affinityKey(TransferEvent event) {
+        Long from = event.getFromAccountId();
+        Long to = event.getToAccountId();
+        if (partitionKey == TransferPartitionKey.ACCOUNT_PAIR && to != null) {
+            return Math.min(from, to) + ":" + Math.max(from, to);
+        }
+        return String.valueOf(from);
+    }
+
+    private static int toPartition(byte[] bytes, int numPartitions) {
+        return Utils.toPositive(Utils.murmur2(bytes)) % numPartitions;
+    }
+}
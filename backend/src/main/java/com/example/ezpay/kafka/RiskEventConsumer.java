@@ -14,6 +14,7 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -26,25 +27,27 @@ public class RiskEventConsumer {
     @KafkaListener(
             topics = KafkaConfig.RISK_DETECTION_EVENTS_TOPIC,
             groupId = "admin-dashboard-consumer",
-            containerFactory = "kafkaListenerContainerFactory",
+            containerFactory = "eventBatchListenerContainerFactory",
             autoStartup = "${spring.kafka.listener.auto-startup:false}"
     )
-    public void consumeRiskEvent(RiskDetectionEvent event, Acknowledgment ack) {
-        log.info("위험거래 이벤트 수신: {}", event);
+    public void consumeRiskEvents(List<RiskDetectionEvent> events, Acknowledgment ack) {
+        log.info("위험거래 이벤트 {}건 수신", events.size());
 
-        RiskTransaction riskTransaction = RiskTransaction.builder()
-                .transactionId(event.getTransactionId())
-                .level(RiskLevel.valueOf(event.getRiskLevel()))
-                .sender(event.getSender())
-                .receiver(event.getReceiver())
-                .amount(event.getAmount())
-                .transactionDatetime(event.getDetectedAt() != null ? event.getDetectedAt() : LocalDateTime.now())
-                .category(event.getCategory())
-                .reason(event.getReason())
-                .status(RiskTransactionStatus.PENDING_REVIEW)
-                .build();
+        List<RiskTransaction> riskTransactions = events.stream()
+                .map(event -> RiskTransaction.builder()
+                        .transactionId(event.getTransactionId())
+                        .level(RiskLevel.valueOf(event.getRiskLevel()))
+                        .sender(event.getSender())
+                        .receiver(event.getReceiver())
+                        .amount(event.getAmount())
+                        .transactionDatetime(event.getDetectedAt() != null ? event.getDetectedAt() : LocalDateTime.now())
+                        .category(event.getCategory())
+                        .reason(event.getReason())
+                        .status(RiskTransactionStatus.PENDING_REVIEW)
+                        .build())
+                .toList();
 
-        riskTransactionService.save(riskTransaction);
+        riskTransactionService.saveAll(riskTransactions);
         ack.acknowledge();
     }
 }
@@ -13,6 +13,7 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -25,20 +26,22 @@ public class SystemLogEventConsumer {
     @KafkaListener(
             topics = KafkaConfig.SYSTEM_LOG_EVENTS_TOPIC,
             groupId = "admin-dashboard-consumer",
-            containerFactory = "kafkaListenerContainerFactory",
+            containerFactory = "eventBatchListenerContainerFactory",
             autoStartup = "${spring.kafka.listener.auto-startup:false}"
     )
-    public void consumeLogEvent(SystemLogEvent event, Acknowledgment ack) {
-        log.info("시스템 로그 이벤트 수신: {}", event);
+    public void consumeLogEvents(List<SystemLogEvent> events, Acknowledgment ack) {
+        log.info("시스템 로그 이벤트 {}건 수신", events.size());
 
-        SystemLog systemLog = SystemLog.builder()
-                .logTime(event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now())
-                .level(LogLevel.valueOf(event.getLevel()))
-                .service(event.getService())
-                .message(event.getMessage())
-                .build();
+        List<SystemLog> systemLogs = events.stream()
+                .map(event -> SystemLog.builder()
+                        .logTime(event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now())
+                        .level(LogLevel.valueOf(event.getLevel()))
+                        .service(event.getService())
+                        .message(event.getMessage())
+                        .build())
+                .toList();
 
-        systemLogService.save(systemLog);
+        systemLogService.saveAll(systemLogs);
         ack.acknowledge();
     }
 }
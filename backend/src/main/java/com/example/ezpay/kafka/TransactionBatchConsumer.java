@@ -0,0 +1,74 @@
+package com.example.ezpay.kafka;
+
+import com.example.ezpay.modules.payment.internal.service.TransactionService;
+import com.example.ezpay.modules.payment.internal.service.TransferBatchResult;
+import com.example.ezpay.shared.messaging.config.KafkaConfig;
+import com.example.ezpay.shared.messaging.events.TransferEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+// 송금 이벤트 배치 컨슈머 (ezpay.kafka.transfer.batch.enabled=true)
+// poll 단위 이벤트를 한 DB 트랜잭션으로 처리하고 배치 단위로 ack 한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnExpression("${ezpay.kafka.enabled:true} and ${ezpay.kafka.transfer.batch.enabled:false}")
+public class TransactionBatchConsumer {
+
+    private final TransactionService transactionService;
+
+    @KafkaListener(
+            topics = KafkaConfig.TRANSFER_EVENTS_TOPIC,
+            groupId = "ezpay-group",
+            containerFactory = "transferBatchListenerContainerFactory",
+            // 파티션(계좌 기준)별로 컨슈머 스레드에 배정되어 같은 계좌의 송금은 순서대로 처리됨
+            concurrency = "${ezpay.kafka.transfer.concurrency:3}",
+            autoStartup = "${spring.kafka.listener.auto-startup:false}"
+    )
+    public void consumeTransferEvents(List<TransferEvent> events, Acknowledgment ack,
+                                      @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> recordTimestamps) {
+        log.info("배치 이벤트 수신: {}건", events.size());
+        recordTimestamps.forEach(transactionService::recordQueueDwell);
+
+        TransferBatchResult result;
+        try {
+            result = transactionService.processTransferBatch(events);
+        } catch (Exception e) {
+            // 배치 트랜잭션이 롤백되면 건별 트랜잭션으로 다시 처리해 실패 건만 분리한다.
+            log.warn("배치 처리 실패, 건별 처리로 전환: {}", e.getMessage());
+            processOneByOne(events);
+            ack.acknowledge();
+            return;
+        }
+
+        // 실패 건 이전 레코드는 커밋되고, 실패 건은 에러 핸들러가 재시도 후 DLT로 보낸다.
+        // 실패 건 이후 레코드는 재전달되지만 requestId 멱등성 검사로 중복 처리되지 않는다.
+        if (result.firstFailure().isPresent()) {
+            Map.Entry<Integer, RuntimeException> failure = result.firstFailure().get();
+            throw new BatchListenerFailedException("송금 이벤트 처리 실패: " + failure.getValue().getMessage(),
+                    failure.getValue(), failure.getKey());
+        }
+
+        ack.acknowledge();
+    }
+
+    private void processOneByOne(List<TransferEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                transactionService.processTransfer(events.get(i));
+            } catch (Exception e) {
+                throw new BatchListenerFailedException("송금 이벤트 처리 실패: " + e.getMessage(), e, i);
+            }
+        }
+    }
+}
@@ -27,10 +27,15 @@ public class TransactionConsumer {
             topics = KafkaConfig.TRANSFER_EVENTS_TOPIC,
             groupId = "ezpay-group",
             containerFactory = "kafkaListenerContainerFactory",
-            autoStartup = "${spring.kafka.listener.auto-startup:false}"
+            // 파티션(계좌 기준)별로 컨슈머 스레드에 배정되어 같은 계좌의 송금은 순서대로 처리됨
+            concurrency = "${ezpay.kafka.transfer.concurrency:3}",
+            // 배치 모드(TransactionBatchConsumer)가 켜져 있으면 건별 리스너는 시작하지 않음
+            autoStartup = "#{!${ezpay.kafka.transfer.batch.enabled:false} and ${spring.kafka.listener.auto-startup:false}}"
     )
-    public void consumerTransferEvent(TransferEvent event, Acknowledgment ack) {
+    public void consumerTransferEvent(TransferEvent event, Acknowledgment ack,
+                                      @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long recordTimestamp) {
         log.info("이벤트 수신: {}", event);
+        transactionService.recordQueueDwell(recordTimestamp);
         // DefaultErrorHandler가 예외를 처리하므로, 서비스 레이어의 예외가 그대로 전파되도록 함
         transactionService.processTransfer(event);
         ack.acknowledge();
@@ -1,16 +1,20 @@
 package com.example.ezpay.kafka;
 
+import com.example.ezpay.shared.messaging.TransferEventPublisher;
 import com.example.ezpay.shared.messaging.events.TransferEvent;
 import com.example.ezpay.shared.messaging.config.KafkaConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class TransactionProducer {
+@ConditionalOnProperty(name = "ezpay.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionProducer implements TransferEventPublisher {
     private final KafkaTemplate<String, TransferEvent> kafkaTemplate;
 
+    @Override
     public void sendTransferEvent(TransferEvent event) {
         kafkaTemplate.executeInTransaction(operations -> {
             operations.send(KafkaConfig.TRANSFER_EVENTS_TOPIC, event.getRequestId(), event);
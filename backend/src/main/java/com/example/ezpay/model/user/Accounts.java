@@ -17,6 +17,9 @@ import java.sql.Timestamp;
 @Builder
 @Table(name = "accounts", uniqueConstraints = {
         @UniqueConstraint(columnNames = "accountNumber") // 계좌번호 고유 설정
+}, indexes = {
+        // 사용자 계좌 목록 / 사용자 단위 거래·한도 집계 조인
+        @Index(name = "idx_accounts_user_id", columnList = "user_id")
 })
 public class Accounts {
     @Id
@@ -35,7 +38,16 @@ public class Accounts {
     private boolean isMain; // 대표계좌
 
     @Column(nullable = false, precision = 18, scale = 4)
-    private BigDecimal balance; // 잔액
+    private BigDecimal balance; // 잔액 (핫 계좌는 슬롯 잔액을 주기적으로 합산한 값)
+
+    // 핫 계좌: 입금을 여러 슬롯(account_balance_slots)에 분산해 수신 계좌 락 경합을 없앰
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean hotAccount;
+
+    // 낙관적 동시성 모드에서 UPDATE ... WHERE version = ? 조건으로 사용
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
 
     @CreationTimestamp
     @Column(updatable = false)
@@ -1,6 +1,7 @@
 package com.example.ezpay.model.user;
 
 import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import com.example.ezpay.shared.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,10 +14,16 @@ import java.sql.Timestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "error_logs")
+@Table(
+        name = "error_logs",
+        indexes = {
+                @Index(name = "idx_error_logs_occurred_at", columnList = "occurredAt")
+        }
+)
 public class ErrorLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "error_logs_seq")
+    @SequenceGenerator(name = "error_logs_seq", sequenceName = "error_logs_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "log_id")
     private Long logId;
 
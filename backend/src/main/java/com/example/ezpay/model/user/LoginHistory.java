@@ -1,6 +1,7 @@
 package com.example.ezpay.model.user;
 
 
+import com.example.ezpay.shared.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,8 @@ import java.sql.Timestamp;
 @Builder
 public class LoginHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "login_history_seq")
+    @SequenceGenerator(name = "login_history_seq", sequenceName = "login_history_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.example.ezpay.model.user;
 
 import com.example.ezpay.shared.common.enums.TransactionStatus;
+import com.example.ezpay.shared.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +20,13 @@ import java.sql.Timestamp;
 @Table(
         name = "transactions",
         indexes = {
-                @Index(name = "idx_transactions_request_id", columnList = "requestId")
+                @Index(name = "idx_transactions_request_id", columnList = "requestId"),
+                // 대시보드 거래 추이: 상태 + 기간 범위 스캔
+                @Index(name = "idx_transactions_status_date", columnList = "status, transactionDate"),
+                // 최근 거래 top-N / 관리자 거래 조회 키셋 페이지 (transactionDate, transactionId 역순)
+                @Index(name = "idx_transactions_date_id", columnList = "transactionDate, transactionId"),
+                @Index(name = "idx_transactions_sender_date_id", columnList = "sender_account_id, transactionDate, transactionId"),
+                @Index(name = "idx_transactions_receiver_date_id", columnList = "receiver_account_id, transactionDate, transactionId")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_transactions_request_id", columnNames = "requestId")
@@ -27,7 +34,8 @@ import java.sql.Timestamp;
 )
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long transactionId;
 
     @Column(length = 64)
@@ -4,6 +4,8 @@ import com.example.ezpay.shared.exception.CustomNotFoundException;
 import com.example.ezpay.model.user.Accounts;
 import com.example.ezpay.model.user.User;
 import com.example.ezpay.modules.account.api.dto.AccountCreateRequest;
+import com.example.ezpay.modules.ledger.entity.LedgerEntryReason;
+import com.example.ezpay.modules.ledger.service.LedgerWriter;
 import com.example.ezpay.repository.user.AccountRepository;
 import com.example.ezpay.repository.user.UserRepository;
 import com.example.ezpay.shared.util.AccountNumberGenerator;
@@ -18,12 +20,15 @@ import java.util.List;
 public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final LedgerWriter ledgerWriter;
 
-    public AccountServiceImpl(AccountRepository accountRepository, UserRepository userRepository) {
+    public AccountServiceImpl(AccountRepository accountRepository, UserRepository userRepository, LedgerWriter ledgerWriter) {
         this.accountRepository = accountRepository;
         this.userRepository = userRepository;
+        this.ledgerWriter = ledgerWriter;
     }
 
+    @Transactional
     @Override
     public Accounts createAccount(AccountCreateRequest accountRequest) {
         User user = userRepository.findById(accountRequest.getUserId())
@@ -32,7 +37,11 @@ public class AccountServiceImpl implements AccountService {
         String accountNumber = AccountNumberGenerator.generateAccountNumber(accountRequest.getBankName());
         Accounts account = accountRequest.toEntity(user, accountNumber);
 
-        return accountRepository.save(account);
+        Accounts saved = accountRepository.save(account);
+        if (saved.getBalance() != null) {
+            ledgerWriter.recordAdjustment(saved.getAccountId(), saved.getBalance(), LedgerEntryReason.OPENING);
+        }
+        return saved;
     }
 
     @Override
@@ -91,6 +100,7 @@ public class AccountServiceImpl implements AccountService {
         }
 
         account.setBalance(newBalance);
+        ledgerWriter.recordAdjustment(accountId, balance, LedgerEntryReason.ADJUSTMENT);
         return accountRepository.save(account);
     }
 
@@ -30,4 +30,20 @@ public class AdminDashboardInfo {
 
     // 최근 에러 수
     private Long recentErrors;         // 최근 미해결 에러 수
+
+    // 메트릭과 같은 집계에서 통계를 만든다 (대시보드 통계 조회와 스냅샷이 공유)
+    public static AdminDashboardInfo from(DashboardMetricsInfo metrics) {
+        return AdminDashboardInfo.builder()
+                .totalUsers(metrics.getTotalUsers())
+                .activeUsers(metrics.getActiveUsers())
+                .inactiveUsers(metrics.getInactiveUsers())
+                .lockedUsers(metrics.getLockedUsers())
+                .totalTransactions(metrics.getTotalTransactions())
+                .todayTransactions(metrics.getDailyTransactionCount())
+                .todayTransactionVolume(metrics.getDailyTransactionVolume())
+                .totalTransactionVolume(metrics.getTotalVolume())
+                .totalAccounts(metrics.getTotalAccounts())
+                .recentErrors(metrics.getRecentErrors())
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.ezpay.modules.admin.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 관리자 대시보드 스냅샷 (주기마다 한 번 계산해 모든 관리자 화면/SSE 가 공유)
+@Getter
+@AllArgsConstructor
+public class DashboardSnapshot {
+    private LocalDateTime computedAt;    // 계산 시각
+    private LocalDateTime validUntil;    // 이 시각 이후에 받았다면 재계산 실패로 이전 스냅샷을 쓴 것
+    private AdminDashboardInfo stats;
+    private DashboardMetricsInfo metrics;
+    private TPSMetricsInfo tps;
+}
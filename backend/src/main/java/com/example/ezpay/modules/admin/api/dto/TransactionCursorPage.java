@@ -0,0 +1,16 @@
+package com.example.ezpay.modules.admin.api.dto;
+
+import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 관리자 거래 조회 키셋 페이지 (nextCursor 를 다음 요청의 cursor 로 전달)
+@Getter
+@AllArgsConstructor
+public class TransactionCursorPage {
+    private List<TransactionInfo> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package com.example.ezpay.modules.admin.api.dto;
+
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 상태별 거래 건수/금액
+@Getter
+@AllArgsConstructor
+public class TransactionStatusSummary {
+    private TransactionStatus status;
+    private long transactionCount;
+    private BigDecimal totalVolume;
+}
@@ -0,0 +1,20 @@
+package com.example.ezpay.modules.admin.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 거래 추이 버킷 하나 (사용자 지정 구간/단위)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionTrendPoint {
+    private LocalDateTime bucketStart; // 버킷 시작 시각
+    private Long transactionCount;     // 거래 건수
+    private BigDecimal totalVolume;    // 거래 총액
+}
@@ -0,0 +1,19 @@
+package com.example.ezpay.modules.admin.api.dto;
+
+import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// 회원 거래 내역 페이지 + 상태별 요약 (totalCount 는 요약 합계와 같음)
+@Getter
+@AllArgsConstructor
+public class UserTransactionHistory {
+    private Page<TransactionInfo> transactions;
+    private List<TransactionStatusSummary> summary;
+    private long totalCount;
+    private BigDecimal totalVolume;
+}
@@ -6,7 +6,13 @@ import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
 import com.example.ezpay.modules.payment.api.dto.TransferLimitInfo;
 import com.example.ezpay.modules.account.api.dto.AccountInfo;
 import com.example.ezpay.modules.payment.api.dto.TransferLimitRequest;
+import com.example.ezpay.repository.queryDSL.TransactionSearchCondition;
 import com.example.ezpay.shared.common.enums.Status;
+import com.example.ezpay.shared.common.enums.TimeBucket;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,6 +37,9 @@ public interface AdminService {
     // 시간대별 거래량 (오늘)
     List<HourlyTransactionStats> getTodayHourlyTransactions();
 
+    // 사용자 지정 구간 거래 추이 ([from, to), 버킷 단위, status 가 null 이면 전체 상태)
+    List<TransactionTrendPoint> getTransactionTrend(TimeBucket bucket, LocalDateTime from, LocalDateTime to, TransactionStatus status);
+
     // 최근 활동 로그 (최근 50개)
     List<RecentActivityLog> getRecentActivities(int limit);
 
@@ -51,12 +60,18 @@ public interface AdminService {
     List<AccountInfo> getUserAccounts(Long userId);
 
     // ========== 거래 관리 ==========
-    // 모든 거래 조회
+    // 최근 거래 조회 (최신순 상한 건수까지, 전체 탐색은 searchTransactions 사용)
     List<TransactionInfo> getAllTransactions();
 
-    // 특정 사용자의 거래 조회
+    // 필터 + 키셋 페이지 거래 조회 (cursor 는 직전 페이지의 nextCursor, 첫 페이지는 null)
+    TransactionCursorPage searchTransactions(TransactionSearchCondition condition, String cursor, int size);
+
+    // 특정 사용자의 거래 조회 (최신순 상한 건수까지)
     List<TransactionInfo> getUserTransactions(Long userId);
 
+    // 특정 회원의 거래 내역 페이지 (최신순) + 상태별 건수/금액 요약
+    UserTransactionHistory getUserTransactionHistory(Long userId, int page, int size);
+
     // 거래 삭제
     void deleteTransaction(Long transactionId);
 
@@ -64,6 +79,9 @@ public interface AdminService {
     // 모든 송금 한도 조회
     List<TransferLimitInfo> getAllTransferLimits();
 
+    // 사용자 송금 한도 페이지 (사용자 ID 순, 오늘 사용액/남은 한도 포함)
+    Page<TransferLimitInfo> getTransferLimits(int page, int size);
+
     // 사용자 송금 한도 수정
     void updateUserTransferLimit(Long userId, TransferLimitRequest request);
 
@@ -4,13 +4,22 @@ import com.example.ezpay.model.admin.AdminAlert;
 import com.example.ezpay.model.admin.AdminMessage;
 import com.example.ezpay.model.user.ErrorLog;
 import com.example.ezpay.model.user.Transaction;
-import com.example.ezpay.model.user.TransferLimit;
 import com.example.ezpay.model.user.User;
 import com.example.ezpay.modules.account.api.dto.AccountInfo;
 import com.example.ezpay.modules.account.api.facade.AccountFacade;
 import com.example.ezpay.modules.admin.api.dto.*;
+import com.example.ezpay.modules.dashboard.dto.TransactionRollupTotals;
+import com.example.ezpay.modules.dashboard.entity.RollupGranularity;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupService;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupWriter;
+import com.example.ezpay.modules.dashboard.service.RecentActivityBuffer;
+import com.example.ezpay.modules.dashboard.service.TpsMeter;
 import com.example.ezpay.repository.admin.AdminAlertRepository;
 import com.example.ezpay.repository.admin.AdminMessageRepository;
+import com.example.ezpay.repository.queryDSL.TransactionRepositoryCustom;
+import com.example.ezpay.repository.queryDSL.TransactionSearchCondition;
+import com.example.ezpay.repository.user.TransferLimitRepository.TransferLimitOverview;
+import com.example.ezpay.shared.common.enums.TimeBucket;
 import com.example.ezpay.shared.common.enums.TransactionStatus;
 import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
 import com.example.ezpay.modules.payment.api.dto.TransferLimitInfo;
@@ -26,17 +35,22 @@ import com.example.ezpay.service.user.ErrorLogService;
 import com.example.ezpay.shared.common.enums.ErrorLogStatus;
 import com.example.ezpay.shared.common.enums.Status;
 import com.example.ezpay.shared.exception.CustomNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // Admin 모듈 내부 서비스 구현 : 관리자 기능 제공
@@ -54,260 +68,134 @@ public class AdminServiceImpl implements AdminService {
     private final ErrorLogService errorLogService;
     private final AdminAlertRepository adminAlertRepository;
     private final AdminMessageRepository adminMessageRepository;
+    private final DashboardRollupService dashboardRollupService;
+    private final DashboardRollupWriter rollupWriter;
+    private final TpsMeter tpsMeter;
+    private final RecentActivityBuffer recentActivityBuffer;
+
+    @Value("${ezpay.dashboard.trend.max-buckets:5000}")
+    private int trendMaxBuckets;
+
+    @Value("${ezpay.admin.transactions.max-page-size:500}")
+    private int transactionMaxPageSize;
+
+    @Value("${ezpay.admin.transactions.all-limit:1000}")
+    private int allTransactionsLimit;
 
     // ========== 대시보드 ==========
 
+    // 메트릭과 같은 집계(사용자 상태별/전체 누적/오늘 버킷, count 쿼리)에서 통계를 만든다
     @Override
     @Transactional(readOnly = true)
     public AdminDashboardInfo getDashboardStats() {
-        // 사용자 통계
-        List<User> allUsers = userRepository.findAll();
-        long totalUsers = allUsers.size();
-        long activeUsers = allUsers.stream().filter(u -> u.getStatus() == Status.ACTIVE).count();
-        long inactiveUsers = allUsers.stream().filter(u -> u.getStatus() == Status.INACTIVE).count();
-        long lockedUsers = allUsers.stream().filter(u -> u.getStatus() == Status.LOCKED).count();
-
-        // 거래 통계
-        List<Transaction> allTransactions = transactionRepository.findAll();
-        long totalTransactions = allTransactions.size();
-
-        LocalDate today = LocalDate.now();
-        List<Transaction> todayTransactionsList = allTransactions.stream()
-                .filter(t -> t.getTransactionDate().toLocalDateTime().toLocalDate().equals(today))
-                .toList();
-
-        long todayTransactions = todayTransactionsList.size();
-        BigDecimal todayVolume = todayTransactionsList.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalVolume = allTransactions.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 계좌 통계
-        long totalAccounts = accountRepository.count();
-
-        // 에러 통계
-        long recentErrors = errorLogRepository.findByStatus(ErrorLogStatus.UNRESOLVED).size();
-
-        return AdminDashboardInfo.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(activeUsers)
-                .inactiveUsers(inactiveUsers)
-                .lockedUsers(lockedUsers)
-                .totalTransactions(totalTransactions)
-                .todayTransactions(todayTransactions)
-                .todayTransactionVolume(todayVolume)
-                .totalTransactionVolume(totalVolume)
-                .totalAccounts(totalAccounts)
-                .recentErrors(recentErrors)
-                .build();
+        return AdminDashboardInfo.from(getDashboardMetrics());
     }
 
     @Override
     @Transactional(readOnly = true)
     public DashboardMetricsInfo getDashboardMetrics() {
-        List<User> allUsers = userRepository.findAll();
-        long totalUsers = allUsers.size();
-        long activeUsers = allUsers.stream().filter(u -> u.getStatus() == Status.ACTIVE).count();
-        long inactiveUsers = allUsers.stream().filter(u -> u.getStatus() == Status.INACTIVE).count();
-        long lockedUsers = allUsers.stream().filter(u -> u.getStatus() == Status.LOCKED).count();
-
-        List<Transaction> allTransactions = transactionRepository.findAll();
-        long totalTransactions = allTransactions.size();
-        BigDecimal totalVolume = allTransactions.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        LocalDate today = LocalDate.now();
-        List<Transaction> todayTransactionsList = allTransactions.stream()
-                .filter(t -> t.getTransactionDate().toLocalDateTime().toLocalDate().equals(today))
-                .toList();
-        long dailyTransactionCount = todayTransactionsList.size();
-        BigDecimal dailyTransactionVolume = todayTransactionsList.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        long totalAccounts = accountRepository.count();
-        long recentErrors = errorLogRepository.findByStatus(ErrorLogStatus.UNRESOLVED).size();
+        Map<Status, Long> userCounts = dashboardRollupService.getUserStatusCounts();
+        TransactionRollupTotals total = dashboardRollupService.getTotal();
+        TransactionRollupTotals today = dashboardRollupService.getBucketTotals(RollupGranularity.DAY, LocalDateTime.now());
 
         return DashboardMetricsInfo.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(activeUsers)
-                .inactiveUsers(inactiveUsers)
-                .lockedUsers(lockedUsers)
-                .totalTransactions(totalTransactions)
-                .totalVolume(totalVolume)
-                .dailyTransactionCount(dailyTransactionCount)
-                .dailyTransactionVolume(dailyTransactionVolume)
-                .totalAccounts(totalAccounts)
-                .recentErrors(recentErrors)
+                .totalUsers(userCounts.values().stream().mapToLong(Long::longValue).sum())
+                .activeUsers(userCounts.get(Status.ACTIVE))
+                .inactiveUsers(userCounts.get(Status.INACTIVE))
+                .lockedUsers(userCounts.get(Status.LOCKED))
+                .totalTransactions(total.getCount())
+                .totalVolume(total.getVolume())
+                .dailyTransactionCount(today.getCount())
+                .dailyTransactionVolume(today.getVolume())
+                .totalAccounts(accountRepository.count())
+                .recentErrors(errorLogRepository.countByStatus(ErrorLogStatus.UNRESOLVED))
                 .lastUpdated(LocalDateTime.now())
                 .build();
     }
 
+    // 인메모리 TPS 측정기 스냅샷 (DB 조회 없음)
     @Override
-    @Transactional(readOnly = true)
     public TPSMetricsInfo getTPSMetrics() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-
-        List<Transaction> todayTransactions = transactionRepository.findAll().stream()
-                .filter(t -> !t.getTransactionDate().toLocalDateTime().isBefore(startOfDay))
-                .toList();
-
-        long secondsElapsedToday = Math.max(1, java.time.Duration.between(startOfDay, now).getSeconds());
-        double avgTPS = todayTransactions.size() / (double) secondsElapsedToday;
-
-        long currentSecondCount = todayTransactions.stream()
-                .filter(t -> !t.getTransactionDate().toLocalDateTime().isBefore(now.minusSeconds(1)))
-                .count();
-
-        Map<Long, Long> perSecondCounts = todayTransactions.stream()
-                .collect(Collectors.groupingBy(
-                        t -> t.getTransactionDate().toLocalDateTime().toEpochSecond(ZoneId.systemDefault().getRules().getOffset(now)),
-                        Collectors.counting()
-                ));
-        long peakSecondCount = perSecondCounts.values().stream().mapToLong(Long::longValue).max().orElse(0L);
-
-        long successCount = todayTransactions.stream()
-                .filter(t -> t.getStatus() == TransactionStatus.SUCCESS)
-                .count();
-        long failedCount = todayTransactions.stream()
-                .filter(t -> t.getStatus() == TransactionStatus.FAILED)
-                .count();
-        long totalCount = todayTransactions.size();
-
-        double successRate = totalCount == 0 ? 100.0 : (successCount * 100.0) / totalCount;
-        double failureRate = totalCount == 0 ? 0.0 : (failedCount * 100.0) / totalCount;
+        TpsMeter.TpsSnapshot snapshot = tpsMeter.snapshot();
+        long totalCount = snapshot.successCount() + snapshot.failedCount();
+        double successRate = totalCount == 0 ? 100.0 : (snapshot.successCount() * 100.0) / totalCount;
+        double failureRate = totalCount == 0 ? 0.0 : (snapshot.failedCount() * 100.0) / totalCount;
 
         return TPSMetricsInfo.builder()
-                .currentTPS(currentSecondCount)
-                .peakTPS(peakSecondCount)
-                .avgTPS(Math.round(avgTPS * 100.0) / 100.0)
+                .currentTPS(snapshot.currentTps())
+                .peakTPS(snapshot.peakTps())
+                .avgTPS(Math.round(snapshot.avgTps() * 100.0) / 100.0)
                 .successRate(Math.round(successRate * 100.0) / 100.0)
                 .failureRate(Math.round(failureRate * 100.0) / 100.0)
-                .timestamp(now)
+                .timestamp(snapshot.timestamp())
                 .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DailyTransactionStats> getWeeklyTransactionTrend() {
-        List<DailyTransactionStats> weeklyStats = new ArrayList<>();
-        LocalDate today = LocalDate.now();
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MM/dd");
-
-        // 최근 7일 데이터 생성
-        for (int i = 6; i >= 0; i--) {
-            LocalDate targetDate = today.minusDays(i);
-            LocalDateTime startOfDay = targetDate.atStartOfDay();
-            LocalDateTime endOfDay = targetDate.atTime(LocalTime.MAX);
-
-            List<Transaction> dayTransactions = transactionRepository.findAll().stream()
-                    .filter(t -> {
-                        LocalDateTime transactionTime = t.getTransactionDate().toLocalDateTime();
-                        return !transactionTime.isBefore(startOfDay) && !transactionTime.isAfter(endOfDay);
-                    })
-                    .filter(t -> t.getStatus() == TransactionStatus.SUCCESS)
-                    .toList();
-
-            long count = dayTransactions.size();
-            BigDecimal volume = dayTransactions.stream()
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            String[] days = {"일", "월", "화", "수", "목", "금", "토"};
-            String dayOfWeek = days[targetDate.getDayOfWeek().getValue() % 7];
-
-            weeklyStats.add(DailyTransactionStats.builder()
-                    .date(targetDate.format(dateFormatter))
-                    .dayOfWeek(dayOfWeek)
-                    .transactionCount(count)
-                    .totalVolume(volume)
-                    .build());
-        }
-
-        return weeklyStats;
+        String[] days = {"일", "월", "화", "수", "목", "금", "토"};
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+
+        // 최근 7일을 일 단위 버킷 한 번의 쿼리로 조회
+        return getTransactionTrend(TimeBucket.DAY, startOfToday.minusDays(6), startOfToday.plusDays(1), TransactionStatus.SUCCESS).stream()
+                .map(point -> DailyTransactionStats.builder()
+                        .date(point.getBucketStart().format(dateFormatter))
+                        .dayOfWeek(days[point.getBucketStart().getDayOfWeek().getValue() % 7])
+                        .transactionCount(point.getTransactionCount())
+                        .totalVolume(point.getTotalVolume())
+                        .build())
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<HourlyTransactionStats> getTodayHourlyTransactions() {
-        List<HourlyTransactionStats> hourlyStats = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-
-        // 0시부터 23시까지 각 시간대별로 데이터 생성
-        for (int hour = 0; hour < 24; hour++) {
-            LocalDateTime startHour = today.atTime(hour, 0);
-            LocalDateTime endHour = today.atTime(hour, 59, 59);
-
-            final int currentHour = hour;
-            List<Transaction> hourTransactions = transactionRepository.findAll().stream()
-                    .filter(t -> {
-                        LocalDateTime transactionTime = t.getTransactionDate().toLocalDateTime();
-                        return !transactionTime.isBefore(startHour) && !transactionTime.isAfter(endHour);
-                    })
-                    .filter(t -> t.getStatus() == TransactionStatus.SUCCESS)
-                    .toList();
-
-            long count = hourTransactions.size();
-            BigDecimal volume = hourTransactions.stream()
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            hourlyStats.add(HourlyTransactionStats.builder()
-                    .hour(String.format("%02d:00", currentHour))
-                    .transactionCount(count)
-                    .totalVolume(volume)
-                    .build());
-        }
-
-        return hourlyStats;
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+
+        // 0시부터 23시까지 시간 단위 버킷 한 번의 쿼리로 조회
+        return getTransactionTrend(TimeBucket.HOUR, startOfToday, startOfToday.plusDays(1), TransactionStatus.SUCCESS).stream()
+                .map(point -> HourlyTransactionStats.builder()
+                        .hour(String.format("%02d:00", point.getBucketStart().getHour()))
+                        .transactionCount(point.getTransactionCount())
+                        .totalVolume(point.getTotalVolume())
+                        .build())
+                .toList();
     }
 
+    // 버킷 단위로 묶은 결과만 읽고, 거래가 없는 버킷은 0 으로 채움
     @Override
     @Transactional(readOnly = true)
-    public List<RecentActivityLog> getRecentActivities(int limit) {
-        List<RecentActivityLog> activities = new ArrayList<>();
-
-        // 최근 거래 활동
-        List<Transaction> recentTransactions = transactionRepository.findAll().stream()
-                .sorted((a, b) -> b.getTransactionDate().compareTo(a.getTransactionDate()))
-                .limit(limit / 2)
-                .toList();
-
-        for (Transaction tx : recentTransactions) {
-            activities.add(RecentActivityLog.builder()
-                    .type("transaction")
-                    .description(String.format("₩%s 송금 완료", tx.getAmount().toPlainString()))
-                    .timestamp(tx.getTransactionDate().toLocalDateTime())
-                    .userName(tx.getSenderAccount().getUser().getName())
-                    .status(tx.getStatus().toString().toLowerCase())
-                    .build());
+    public List<TransactionTrendPoint> getTransactionTrend(TimeBucket bucket, LocalDateTime from, LocalDateTime to, TransactionStatus status) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        long buckets = bucket.bucketsBetween(from, to);
+        if (buckets > trendMaxBuckets) {
+            throw new IllegalArgumentException("조회 구간의 버킷 수가 너무 많습니다. (최대 " + trendMaxBuckets + "개)");
         }
 
-        // 최근 에러 로그
-        List<ErrorLog> recentErrors = errorLogRepository.findAll().stream()
-                .sorted((a, b) -> b.getOccurredAt().compareTo(a.getOccurredAt()))
-                .limit(limit / 4)
-                .toList();
-
-        for (ErrorLog error : recentErrors) {
-            activities.add(RecentActivityLog.builder()
-                    .type("error")
-                    .description(error.getServiceName() + " - " + error.getErrorMessage())
-                    .timestamp(error.getOccurredAt().toLocalDateTime())
-                    .status(error.getStatus() == ErrorLogStatus.UNRESOLVED ? "failed" : "resolved")
+        Map<LocalDateTime, TransactionRepositoryCustom.BucketStats> stats = transactionRepository.countByTimeBucket(bucket, from, to, status).stream()
+                .collect(Collectors.toMap(TransactionRepositoryCustom.BucketStats::bucketStart, Function.identity()));
+
+        List<TransactionTrendPoint> trend = new ArrayList<>((int) buckets);
+        LocalDateTime bucketStart = bucket.truncate(from);
+        for (long i = 0; i < buckets; i++, bucketStart = bucket.plus(bucketStart, 1)) {
+            TransactionRepositoryCustom.BucketStats bucketStats = stats.get(bucketStart);
+            trend.add(TransactionTrendPoint.builder()
+                    .bucketStart(bucketStart)
+                    .transactionCount(bucketStats != null ? bucketStats.count() : 0L)
+                    .totalVolume(bucketStats != null ? bucketStats.volume() : BigDecimal.ZERO)
                     .build());
         }
+        return trend;
+    }
 
-        // 시간순으로 정렬하여 최신순으로 반환
-        return activities.stream()
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .limit(limit)
-                .collect(Collectors.toList());
+    // 최근 활동 링 버퍼에서 최신순 조회 (DB 조회 없음)
+    @Override
+    public List<RecentActivityLog> getRecentActivities(int limit) {
+        return recentActivityBuffer.latest(limit);
     }
 
     // ========== 사용자 관리 ==========
@@ -324,24 +212,69 @@ public class AdminServiceImpl implements AdminService {
     @Override
     @Transactional(readOnly = true)
     public List<TransactionInfo> getAllTransactions() {
-        List<Transaction> transactions = transactionRepository.findAll();
-        return transactions.stream()
-                .map(this::convertToTransactionInfo)
-                .collect(Collectors.toList());
+        // 전체 테이블을 올리지 않도록 최신 거래 상한 건수만
+        return transactionRepository.searchByKeyset(TransactionSearchCondition.builder().build(), null, allTransactionsLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionCursorPage searchTransactions(TransactionSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, transactionMaxPageSize));
+        TransactionRepositoryCustom.Keyset after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<TransactionInfo> rows = transactionRepository.searchByKeyset(condition, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionInfo> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+        return new TransactionCursorPage(content, nextCursor, hasNext);
+    }
+
+    private String encodeCursor(TransactionInfo last) {
+        String raw = last.getCreatedAt() + "|" + last.getTransactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TransactionRepositoryCustom.Keyset decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new TransactionRepositoryCustom.Keyset(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TransactionInfo> getUserTransactions(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        ensureUserExists(userId);
+        // 계좌별 조회 대신 사용자 계좌 서브쿼리 한 번으로, 최신 거래 상한 건수까지
+        return transactionRepository.findUserTransactions(userId, 0, allTransactionsLimit);
+    }
 
-        // 사용자의 모든 계좌를 조회하고, 각 계좌의 거래 내역을 수집
-        return user.getAccounts().stream()
-                .flatMap(account -> transactionRepository.findTransactionByAccount(account.getAccountId()).stream())
-                .distinct()
-                .map(this::convertToTransactionInfo)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public UserTransactionHistory getUserTransactionHistory(Long userId, int page, int size) {
+        ensureUserExists(userId);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, transactionMaxPageSize)));
+        List<TransactionInfo> content = transactionRepository.findUserTransactions(userId, pageable.getOffset(), pageable.getPageSize());
+
+        // 상태별 요약 합계가 곧 전체 건수이므로 별도 count 쿼리 없음
+        List<TransactionStatusSummary> summary = new ArrayList<>();
+        long totalCount = 0;
+        BigDecimal totalVolume = BigDecimal.ZERO;
+        for (TransactionRepositoryCustom.StatusStats stats : transactionRepository.summarizeUserTransactions(userId)) {
+            summary.add(new TransactionStatusSummary(stats.status(), stats.count(), stats.volume()));
+            totalCount += stats.count();
+            totalVolume = totalVolume.add(stats.volume());
+        }
+        return new UserTransactionHistory(new PageImpl<>(content, pageable, totalCount), summary, totalCount, totalVolume);
+    }
+
+    private void ensureUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+        }
     }
 
     @Override
@@ -356,12 +289,20 @@ public class AdminServiceImpl implements AdminService {
     @Override
     @Transactional(readOnly = true)
     public List<TransferLimitInfo> getAllTransferLimits() {
-        List<TransferLimit> transferLimits = transferLimitService.getAllTransferLimits();
-        return transferLimits.stream()
+        // 사용자별 조회 대신 한도/이름/오늘 누적 송금액을 집계 쿼리 한 번으로
+        return transferLimitService.getTransferLimitOverview(LocalDate.now()).stream()
                 .map(this::convertToTransferLimitInfo)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TransferLimitInfo> getTransferLimits(int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, transactionMaxPageSize)));
+        return transferLimitService.getTransferLimitOverview(LocalDate.now(), pageable)
+                .map(this::convertToTransferLimitInfo);
+    }
+
     @Override
     @Transactional
     public void updateUserTransferLimit(Long userId, TransferLimitRequest request) {
@@ -387,8 +328,10 @@ public class AdminServiceImpl implements AdminService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
+        Status previous = user.getStatus();
         user.setStatus(status);
         userRepository.save(user);
+        rollupWriter.recordUserStatusChange(previous, status);
     }
 
     @Override
@@ -451,45 +394,19 @@ public class AdminServiceImpl implements AdminService {
                 .build();
     }
 
-    /**
-     * Transaction 엔티티를 TransactionInfo DTO로 변환
-     */
-    private TransactionInfo convertToTransactionInfo(Transaction transaction) {
-        return TransactionInfo.builder()
-                .transactionId(transaction.getTransactionId())
-                .senderAccountId(transaction.getSenderAccount().getAccountId())
-                .receiverAccountId(transaction.getReceiverAccount().getAccountId())
-                .amount(transaction.getAmount())
-                .memo(null) // Admin에서는 메모 정보 불필요
-                .category(null) // Admin에서는 카테고리 정보 불필요
-                .status(transaction.getStatus())
-                .createdAt(transaction.getTransactionDate().toInstant()
-                        .atZone(ZoneId.systemDefault())
-                        .toLocalDateTime())
-                .build();
-    }
-
-    /**
-     * TransferLimit 엔티티를 TransferLimitInfo DTO로 변환
-     */
-    private TransferLimitInfo convertToTransferLimitInfo(TransferLimit transferLimit) {
-        Long userId = transferLimit.getUserId();
-        BigDecimal remainingLimit = transferLimitService.getRemainingDailyLimit(userId);
-        BigDecimal usedAmount = transferLimit.getDailyLimit().subtract(remainingLimit);
-
-        // 사용자 이름 조회
-        String userName = userRepository.findById(userId)
-                .map(User::getName)
-                .orElse(null);
+    // 한도 + 오늘 누적 송금액 행을 TransferLimitInfo DTO로 변환
+    private TransferLimitInfo convertToTransferLimitInfo(TransferLimitOverview overview) {
+        BigDecimal usedAmount = overview.getUsedAmount() != null ? overview.getUsedAmount() : BigDecimal.ZERO;
+        BigDecimal remainingAmount = overview.getDailyLimit().subtract(usedAmount).max(BigDecimal.ZERO);
 
         return TransferLimitInfo.builder()
-                .limitId(transferLimit.getUserId())
-                .userId(userId)
-                .userName(userName)
-                .dailyLimit(transferLimit.getDailyLimit())
-                .perTransactionLimit(transferLimit.getPerTransactionLimit())
+                .limitId(overview.getUserId())
+                .userId(overview.getUserId())
+                .userName(overview.getUserName())
+                .dailyLimit(overview.getDailyLimit())
+                .perTransactionLimit(overview.getPerTransactionLimit())
                 .usedAmount(usedAmount)
-                .remainingAmount(remainingLimit)
+                .remainingAmount(remainingAmount)
                 .build();
     }
 
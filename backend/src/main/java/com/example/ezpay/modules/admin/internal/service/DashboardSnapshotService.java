@@ -0,0 +1,105 @@
+package com.example.ezpay.modules.admin.internal.service;
+
+import com.example.ezpay.modules.admin.api.dto.AdminDashboardInfo;
+import com.example.ezpay.modules.admin.api.dto.DashboardMetricsInfo;
+import com.example.ezpay.modules.admin.api.dto.DashboardSnapshot;
+import com.example.ezpay.modules.admin.api.dto.TPSMetricsInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관리자 대시보드 스냅샷
+ * - 통계/메트릭/TPS 를 주기(ezpay.dashboard.snapshot.interval-ms)마다 한 번만 계산해 모든 관리자 REST 조회와 SSE 가 공유한다.
+ * - 계산은 single-flight: 동시에 들어온 호출은 진행 중인 계산 하나를 기다려 같은 결과를 받는다.
+ * - 재계산이 실패하면 이전 스냅샷을 그대로 돌려준다. (validUntil 이 지난 스냅샷 = 오래된 값)
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    private final AdminService adminService;
+    private final long intervalMs;
+
+    private final AtomicReference<CompletableFuture<DashboardSnapshot>> inFlight = new AtomicReference<>();
+    private volatile DashboardSnapshot current;
+
+    public DashboardSnapshotService(AdminService adminService,
+                                    @Value("${ezpay.dashboard.snapshot.interval-ms:3000}") long intervalMs) {
+        this.adminService = adminService;
+        this.intervalMs = Math.max(100, intervalMs);
+    }
+
+    // REST 조회: 유효한 스냅샷이 있으면 그대로, 만료되었으면 (진행 중인 계산에 합류해) 새로 계산
+    public DashboardSnapshot get() {
+        DashboardSnapshot snapshot = current;
+        if (snapshot != null && isFresh(snapshot)) {
+            return snapshot;
+        }
+        return compute(false);
+    }
+
+    // 주기 갱신 (스트림 스케줄러): 유효 기간과 무관하게 새로 계산
+    public DashboardSnapshot refresh() {
+        return compute(true);
+    }
+
+    private DashboardSnapshot compute(boolean force) {
+        CompletableFuture<DashboardSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<DashboardSnapshot> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 직전에 다른 호출이 계산을 끝냈으면 그 결과를 사용
+            DashboardSnapshot snapshot = current;
+            if (force || snapshot == null || !isFresh(snapshot)) {
+                snapshot = build();
+                current = snapshot;
+            }
+            mine.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            DashboardSnapshot previous = current;
+            if (previous != null) {
+                log.warn("대시보드 스냅샷 계산 실패, 이전 스냅샷 사용 (computedAt={}): {}", previous.getComputedAt(), e.getMessage());
+                mine.complete(previous);
+                return previous;
+            }
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private DashboardSnapshot build() {
+        LocalDateTime computedAt = LocalDateTime.now();
+        // 통계와 메트릭은 같은 집계를 읽으므로 한 번만 조회
+        DashboardMetricsInfo metrics = adminService.getDashboardMetrics();
+        TPSMetricsInfo tps = adminService.getTPSMetrics();
+        AdminDashboardInfo stats = AdminDashboardInfo.from(metrics);
+        return new DashboardSnapshot(computedAt, computedAt.plusNanos(intervalMs * 1_000_000), stats, metrics, tps);
+    }
+
+    private static boolean isFresh(DashboardSnapshot snapshot) {
+        return LocalDateTime.now().isBefore(snapshot.getValidUntil());
+    }
+
+    private static DashboardSnapshot await(CompletableFuture<DashboardSnapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.ezpay.modules.admin.internal.service;
+
+import com.example.ezpay.shared.common.enums.TransactionExportFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래 내역 내보내기 (CSV / NDJSON)
+ * - 전방향(forward-only) JDBC 커서를 고정 fetch size 로 읽으며 한 행씩 바로 응답 스트림에 쓴다.
+ *   엔티티/영속성 컨텍스트를 거치지 않으므로 내보내는 건수와 무관하게 메모리는 fetch size + 출력 버퍼만큼만 쓴다.
+ *   (PostgreSQL 드라이버는 autocommit 이 꺼진 트랜잭션 안에서만 커서로 나눠 읽으므로 읽기 전용 트랜잭션으로 감싼다)
+ * - transaction_id 오름차순으로 쓰므로 중단되면 마지막으로 받은 ID 를 afterId 로 넘겨 이어 받을 수 있다.
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private static final String[] COLUMNS = {
+            "transaction_id", "request_id", "transaction_date", "sender_account_id", "receiver_account_id",
+            "amount", "status", "category", "description", "memo"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate exportTemplate;
+    private final JsonFactory jsonFactory;
+
+    @Value("${ezpay.admin.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public TransactionExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportTemplate = new TransactionTemplate(transactionManager);
+        this.exportTemplate.setReadOnly(true);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public void export(ExportRange range, TransactionExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        List<Object> args = new ArrayList<>();
+        String sql = buildQuery(range, args);
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 64 * 1024) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == TransactionExportFormat.NDJSON ? new NdjsonRowWriter(writer) : new CsvRowWriter(writer);
+
+        long startedAt = System.currentTimeMillis();
+        long[] rows = {0};
+        try {
+            rowWriter.begin();
+            exportTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등: 커서를 닫고 중단
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            log.info("거래 내보내기 중단: rows={}, {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        rowWriter.end();
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+        log.info("거래 내보내기 완료: format={}, rows={}, {}ms", format, rows[0], System.currentTimeMillis() - startedAt);
+    }
+
+    private static String buildQuery(ExportRange range, List<Object> args) {
+        StringBuilder sql = new StringBuilder("select ").append(String.join(", ", COLUMNS)).append(" from transactions where 1 = 1");
+        if (range.afterId() != null) {
+            sql.append(" and transaction_id > ?");
+            args.add(range.afterId());
+        }
+        if (range.untilId() != null) {
+            sql.append(" and transaction_id <= ?");
+            args.add(range.untilId());
+        }
+        if (range.from() != null) {
+            sql.append(" and transaction_date >= ?");
+            args.add(Timestamp.valueOf(range.from()));
+        }
+        if (range.to() != null) {
+            sql.append(" and transaction_date < ?");
+            args.add(Timestamp.valueOf(range.to()));
+        }
+        // PK 인덱스 순서로 읽어 정렬 없이 스트리밍
+        return sql.append(" order by transaction_id").toString();
+    }
+
+    private static String text(ResultSet rs, String column) throws SQLException {
+        return switch (column) {
+            case "transaction_date" -> {
+                Timestamp timestamp = rs.getTimestamp(column);
+                yield timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+            }
+            case "amount" -> {
+                BigDecimal amount = rs.getBigDecimal(column);
+                yield amount != null ? amount.toPlainString() : null;
+            }
+            default -> rs.getString(column);
+        };
+    }
+
+    // 내보낼 범위: ID 구간 (afterId, untilId], 거래 일시 구간 [from, to) — null 인 조건은 적용하지 않음
+    public record ExportRange(Long afterId, Long untilId, LocalDateTime from, LocalDateTime to) {
+        public ExportRange {
+            if (afterId != null && untilId != null && untilId <= afterId) {
+                throw new IllegalArgumentException("untilId 는 afterId 보다 커야 합니다.");
+            }
+            if (from != null && to != null && !to.isAfter(from)) {
+                throw new IllegalArgumentException("to 는 from 이후여야 합니다.");
+            }
+        }
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void end() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = text(rs, COLUMNS[i]);
+                if (value != null) {
+                    writer.write(escape(value));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void end() {
+        }
+
+        // RFC 4180: 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = jsonFactory.createGenerator(writer);
+            // 출력 스트림은 호출자가 관리, 행마다 스트림까지 flush 하지 않음
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            // 행 구분은 줄바꿈만
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("transactionId", rs.getLong("transaction_id"));
+            generator.writeStringField("requestId", rs.getString("request_id"));
+            generator.writeStringField("transactionDate", text(rs, "transaction_date"));
+            generator.writeNumberField("senderAccountId", rs.getLong("sender_account_id"));
+            generator.writeNumberField("receiverAccountId", rs.getLong("receiver_account_id"));
+            BigDecimal amount = rs.getBigDecimal("amount");
+            if (amount != null) {
+                generator.writeNumberField("amount", amount);
+            } else {
+                generator.writeNullField("amount");
+            }
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("category", rs.getString("category"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeStringField("memo", rs.getString("memo"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.flush();
+        }
+    }
+}
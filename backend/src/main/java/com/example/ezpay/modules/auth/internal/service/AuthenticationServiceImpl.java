@@ -4,6 +4,7 @@ import com.example.ezpay.model.user.Notification;
 import com.example.ezpay.model.user.TransferLimit;
 import com.example.ezpay.model.user.User;
 import com.example.ezpay.modules.auth.api.dto.*;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupWriter;
 import com.example.ezpay.modules.user.api.facade.UserFacade;
 import com.example.ezpay.repository.user.NotificationRepository;
 import com.example.ezpay.repository.user.TransferLimitRepository;
@@ -30,6 +31,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final UserFacade userFacade;
+    private final DashboardRollupWriter rollupWriter;
 
     @Override
     @Transactional
@@ -52,6 +54,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        rollupWriter.recordUserStatusChange(null, savedUser.getStatus());
 
         // 기본 송금 한도 설정
         TransferLimit transferLimit = TransferLimit.builder()
@@ -0,0 +1,16 @@
+package com.example.ezpay.modules.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 집계 테이블 재구축 결과
+@Getter
+@AllArgsConstructor
+public class RollupRebuildResult {
+    private LocalDateTime rebuiltAt;
+    private int transactionRollupRows;
+    private int userStatusRows;
+    private long elapsedMs;
+}
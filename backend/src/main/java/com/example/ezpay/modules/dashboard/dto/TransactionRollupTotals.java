@@ -0,0 +1,14 @@
+package com.example.ezpay.modules.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 집계 버킷 하나의 거래 건수/금액 (모든 상태 합계)
+@Getter
+@AllArgsConstructor
+public class TransactionRollupTotals {
+    private long count;
+    private BigDecimal volume;
+}
@@ -0,0 +1,23 @@
+package com.example.ezpay.modules.dashboard.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 거래 집계 버킷 단위 (TOTAL 은 전체 누적 한 버킷)
+public enum RollupGranularity {
+    MINUTE,
+    HOUR,
+    DAY,
+    TOTAL;
+
+    public static final LocalDateTime TOTAL_BUCKET = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return switch (this) {
+            case MINUTE -> time.truncatedTo(ChronoUnit.MINUTES);
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case TOTAL -> TOTAL_BUCKET;
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.ezpay.modules.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 인스턴스별 분 단위 송금 처리량 요약 (재기동 후 오늘 누적/최고 TPS 복원용)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "tps_minute_summaries",
+        indexes = {
+                @Index(name = "idx_tps_minute_summaries_instance_minute", columnList = "instanceId, minuteStart")
+        }
+)
+public class TpsMinuteSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String instanceId;
+
+    @Column(nullable = false)
+    private LocalDateTime minuteStart;
+
+    @Column(nullable = false)
+    private long successCount;
+
+    @Column(nullable = false)
+    private long failedCount;
+
+    // 그 분 안에서 가장 많이 처리한 1초 건수
+    @Column(nullable = false)
+    private long peakTps;
+
+    public TpsMinuteSummary(String instanceId, LocalDateTime minuteStart, long successCount, long failedCount, long peakTps) {
+        this.instanceId = instanceId;
+        this.minuteStart = minuteStart;
+        this.successCount = successCount;
+        this.failedCount = failedCount;
+        this.peakTps = peakTps;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ezpay.modules.dashboard.entity;
+
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// (버킷 단위, 버킷 시작 시각, 거래 상태)별 거래 건수/금액 (커밋된 거래 변화량을 주기적으로 더해 유지)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "transaction_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_transaction_rollups_bucket", columnNames = {"granularity", "bucketStart", "status"})
+        }
+)
+public class TransactionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TransactionStatus status;
+
+    @Column(nullable = false)
+    private long txCount;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal volume;
+}
@@ -0,0 +1,23 @@
+package com.example.ezpay.modules.dashboard.entity;
+
+import com.example.ezpay.shared.common.enums.Status;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자 상태별 인원 수 (가입/상태 변경/탈퇴 변화량을 주기적으로 더해 유지)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_status_counts")
+public class UserStatusCount {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private long userCount;
+}
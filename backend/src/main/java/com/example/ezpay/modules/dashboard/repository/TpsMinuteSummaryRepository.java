@@ -0,0 +1,28 @@
+package com.example.ezpay.modules.dashboard.repository;
+
+import com.example.ezpay.modules.dashboard.entity.TpsMinuteSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TpsMinuteSummaryRepository extends JpaRepository<TpsMinuteSummary, Long> {
+
+    // 인스턴스의 since 이후 분 요약 합계 (idx_tps_minute_summaries_instance_minute 범위 스캔)
+    @Query("select coalesce(sum(s.successCount), 0) as successCount, coalesce(sum(s.failedCount), 0) as failedCount, " +
+            "coalesce(max(s.peakTps), 0) as peakTps " +
+            "from TpsMinuteSummary s where s.instanceId = :instanceId and s.minuteStart >= :since")
+    TpsTotals sumSince(@Param("instanceId") String instanceId, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from TpsMinuteSummary s where s.minuteStart < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+
+    interface TpsTotals {
+        Long getSuccessCount();
+        Long getFailedCount();
+        Long getPeakTps();
+    }
+}
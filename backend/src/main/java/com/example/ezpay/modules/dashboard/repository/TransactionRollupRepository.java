@@ -0,0 +1,16 @@
+package com.example.ezpay.modules.dashboard.repository;
+
+import com.example.ezpay.modules.dashboard.entity.RollupGranularity;
+import com.example.ezpay.modules.dashboard.entity.TransactionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, Long> {
+
+    // 버킷 하나의 상태별 행 (최대 상태 수만큼)
+    List<TransactionRollup> findByGranularityAndBucketStart(RollupGranularity granularity, LocalDateTime bucketStart);
+
+    boolean existsByGranularity(RollupGranularity granularity);
+}
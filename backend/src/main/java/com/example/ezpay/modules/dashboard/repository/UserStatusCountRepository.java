@@ -0,0 +1,8 @@
+package com.example.ezpay.modules.dashboard.repository;
+
+import com.example.ezpay.modules.dashboard.entity.UserStatusCount;
+import com.example.ezpay.shared.common.enums.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserStatusCountRepository extends JpaRepository<UserStatusCount, Status> {
+}
@@ -0,0 +1,201 @@
+package com.example.ezpay.modules.dashboard.service;
+
+import com.example.ezpay.modules.dashboard.dto.RollupRebuildResult;
+import com.example.ezpay.modules.dashboard.dto.TransactionRollupTotals;
+import com.example.ezpay.modules.dashboard.entity.RollupGranularity;
+import com.example.ezpay.modules.dashboard.entity.TransactionRollup;
+import com.example.ezpay.modules.dashboard.entity.UserStatusCount;
+import com.example.ezpay.modules.dashboard.repository.TransactionRollupRepository;
+import com.example.ezpay.modules.dashboard.repository.UserStatusCountRepository;
+import com.example.ezpay.shared.common.enums.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드 집계 조회/재구축
+ * - 조회: 전체 누적(TOTAL)/오늘(DAY) 버킷의 상태별 행과 사용자 상태별 행만 읽는다. (거래/사용자 수와 무관하게 몇 행)
+ * - 재구축: 거래/사용자 테이블을 GROUP BY 한 번씩으로 다시 집계해 집계 테이블을 통째로 교체 (도입 시 백필, 드리프트 보정)
+ * - 정리: 분/시간 버킷은 보관 기간이 지나면 삭제 (일/누적 버킷은 유지)
+ * 재구축/정리 작업은 인스턴스 하나에서만 돌도록 ezpay.dashboard.rollup.jobs.enabled 로 제어한다.
+ */
+@Slf4j
+@Service
+public class DashboardRollupService {
+
+    private static final String INSERT_BUCKET_ROLLUP_SQL =
+            "insert into transaction_rollups (granularity, bucket_start, status, tx_count, volume) " +
+                    "select ?, date_trunc('%s', t.transaction_date), t.status, count(*), coalesce(sum(t.amount), 0) " +
+                    "from transactions t where t.transaction_date >= ? and t.status is not null " +
+                    "group by date_trunc('%s', t.transaction_date), t.status";
+    private static final String INSERT_TOTAL_ROLLUP_SQL =
+            "insert into transaction_rollups (granularity, bucket_start, status, tx_count, volume) " +
+                    "select ?, ?, t.status, count(*), coalesce(sum(t.amount), 0) " +
+                    "from transactions t where t.status is not null group by t.status";
+    private static final String INSERT_USER_STATUS_SQL =
+            "insert into user_status_counts (status, user_count) " +
+                    "select u.status, count(*) from users u where u.status is not null group by u.status";
+    private static final String PURGE_SQL =
+            "delete from transaction_rollups where granularity = ? and bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final UserStatusCountRepository userStatusCountRepository;
+    private final DashboardRollupWriter rollupWriter;
+    // 재구축은 모든 집계를 한 스냅샷 기준으로 계산
+    private final TransactionTemplate rebuildTemplate;
+
+    @Value("${ezpay.dashboard.rollup.jobs.enabled:true}")
+    private boolean jobsEnabled;
+
+    @Value("${ezpay.dashboard.rollup.minute-retention-hours:48}")
+    private long minuteRetentionHours;
+
+    @Value("${ezpay.dashboard.rollup.hour-retention-days:90}")
+    private long hourRetentionDays;
+
+    public DashboardRollupService(JdbcTemplate jdbcTemplate,
+                                  TransactionRollupRepository transactionRollupRepository,
+                                  UserStatusCountRepository userStatusCountRepository,
+                                  DashboardRollupWriter rollupWriter,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRollupRepository = transactionRollupRepository;
+        this.userStatusCountRepository = userStatusCountRepository;
+        this.rollupWriter = rollupWriter;
+        this.rebuildTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // 집계 테이블이 비어 있으면 (도입 직후) 기존 데이터로 백필
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!jobsEnabled) {
+            return;
+        }
+        try {
+            if (!transactionRollupRepository.existsByGranularity(RollupGranularity.TOTAL) && userStatusCountRepository.count() == 0) {
+                RollupRebuildResult result = rebuild();
+                log.info("대시보드 집계 백필: rows={}, {}ms", result.getTransactionRollupRows(), result.getElapsedMs());
+            }
+        } catch (Exception e) {
+            log.error("대시보드 집계 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${ezpay.dashboard.rollup.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        if (!jobsEnabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("대시보드 집계 재구축 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${ezpay.dashboard.rollup.purge-cron:0 15 * * * *}")
+    public void scheduledPurge() {
+        if (!jobsEnabled) {
+            return;
+        }
+        try {
+            purgeExpiredBuckets();
+        } catch (Exception e) {
+            log.error("대시보드 집계 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 재구축 시작 전에 커밋된 변화량은 스캔에 포함되므로 버림
+    // (다른 인스턴스의 미반영 변화량은 최대 반영 주기만큼 중복될 수 있어 트래픽이 적을 때 실행)
+    public RollupRebuildResult rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        rollupWriter.discardPending();
+
+        int[] rows = rebuildTemplate.execute(status -> {
+            jdbcTemplate.update("delete from transaction_rollups");
+            jdbcTemplate.update("delete from user_status_counts");
+
+            int transactionRows = jdbcTemplate.update(INSERT_TOTAL_ROLLUP_SQL,
+                    RollupGranularity.TOTAL.name(), Timestamp.valueOf(RollupGranularity.TOTAL_BUCKET));
+            transactionRows += insertBuckets(RollupGranularity.DAY, "day", RollupGranularity.TOTAL_BUCKET);
+            transactionRows += insertBuckets(RollupGranularity.HOUR, "hour", hourCutoff(now));
+            transactionRows += insertBuckets(RollupGranularity.MINUTE, "minute", minuteCutoff(now));
+            int userRows = jdbcTemplate.update(INSERT_USER_STATUS_SQL);
+            return new int[]{transactionRows, userRows};
+        });
+
+        RollupRebuildResult result = new RollupRebuildResult(now, rows[0], rows[1], System.currentTimeMillis() - startedAt);
+        log.info("대시보드 집계 재구축: transactionRows={}, userRows={}, {}ms",
+                result.getTransactionRollupRows(), result.getUserStatusRows(), result.getElapsedMs());
+        return result;
+    }
+
+    @Transactional
+    public int purgeExpiredBuckets() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = jdbcTemplate.update(PURGE_SQL, RollupGranularity.MINUTE.name(), Timestamp.valueOf(minuteCutoff(now)));
+        purged += jdbcTemplate.update(PURGE_SQL, RollupGranularity.HOUR.name(), Timestamp.valueOf(hourCutoff(now)));
+        return purged;
+    }
+
+    // 전체 누적 (모든 상태 합계)
+    @Transactional(readOnly = true)
+    public TransactionRollupTotals getTotal() {
+        return getBucketTotals(RollupGranularity.TOTAL, RollupGranularity.TOTAL_BUCKET);
+    }
+
+    // time 이 속한 버킷 하나 (모든 상태 합계)
+    @Transactional(readOnly = true)
+    public TransactionRollupTotals getBucketTotals(RollupGranularity granularity, LocalDateTime time) {
+        List<TransactionRollup> rollups = transactionRollupRepository.findByGranularityAndBucketStart(granularity, granularity.bucketOf(time));
+        long count = 0;
+        BigDecimal volume = BigDecimal.ZERO;
+        for (TransactionRollup rollup : rollups) {
+            count += rollup.getTxCount();
+            volume = volume.add(rollup.getVolume());
+        }
+        return new TransactionRollupTotals(count, volume);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Status, Long> getUserStatusCounts() {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (UserStatusCount count : userStatusCountRepository.findAll()) {
+            counts.put(count.getStatus(), count.getUserCount());
+        }
+        return counts;
+    }
+
+    private int insertBuckets(RollupGranularity granularity, String unit, LocalDateTime from) {
+        return jdbcTemplate.update(INSERT_BUCKET_ROLLUP_SQL.formatted(unit, unit), granularity.name(), Timestamp.valueOf(from));
+    }
+
+    private LocalDateTime minuteCutoff(LocalDateTime now) {
+        return RollupGranularity.MINUTE.bucketOf(now.minusHours(minuteRetentionHours));
+    }
+
+    private LocalDateTime hourCutoff(LocalDateTime now) {
+        return RollupGranularity.HOUR.bucketOf(now.minusDays(hourRetentionDays));
+    }
+}
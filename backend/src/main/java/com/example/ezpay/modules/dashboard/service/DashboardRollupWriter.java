@@ -0,0 +1,269 @@
+package com.example.ezpay.modules.dashboard.service;
+
+import com.example.ezpay.modules.dashboard.entity.RollupGranularity;
+import com.example.ezpay.shared.common.enums.Status;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대시보드 집계 변화량 기록기
+ * - 거래/사용자 상태가 바뀌는 트랜잭션 안에서 호출하면 변화량을 모아 두었다가 커밋 이후(afterCommit)에만 인스턴스 공용 버퍼에 합친다.
+ *   롤백된 거래는 집계에 들어가지 않는다.
+ * - 공용 버퍼는 주기적으로 (버킷, 상태)별 한 행씩 update(+delta) / 없으면 insert 한다.
+ *   송금 트랜잭션이 집계 행을 직접 갱신하지 않으므로 같은 분 버킷 행에 송금 락이 몰리지 않는다.
+ * - 성공/실패로 커밋된 거래는 커밋 시점에 TpsMeter 에도 기록한다.
+ * - 반영 전 인스턴스가 죽으면 그 구간 변화량은 빠지며, 재구축 작업(DashboardRollupService.rebuild)으로 맞춘다.
+ */
+@Slf4j
+@Component
+public class DashboardRollupWriter {
+
+    private static final String UPDATE_TRANSACTION_ROLLUP_SQL =
+            "update transaction_rollups set tx_count = tx_count + ?, volume = volume + ? " +
+                    "where granularity = ? and bucket_start = ? and status = ?";
+    private static final String INSERT_TRANSACTION_ROLLUP_SQL =
+            "insert into transaction_rollups (granularity, bucket_start, status, tx_count, volume) values (?, ?, ?, ?, ?)";
+    private static final String UPDATE_USER_STATUS_SQL =
+            "update user_status_counts set user_count = user_count + ? where status = ?";
+    private static final String INSERT_USER_STATUS_SQL =
+            "insert into user_status_counts (status, user_count) values (?, ?)";
+
+    private static final Comparator<TransactionKey> KEY_ORDER = Comparator
+            .comparing(TransactionKey::granularity)
+            .thenComparing(TransactionKey::bucketStart)
+            .thenComparing(TransactionKey::status);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TpsMeter tpsMeter;
+
+    // 커밋되었지만 아직 집계 테이블에 반영하지 않은 변화량
+    private final Map<TransactionKey, TransactionDelta> pendingTransactions = new ConcurrentHashMap<>();
+    private final Map<Status, Long> pendingUsers = new ConcurrentHashMap<>();
+
+    public DashboardRollupWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, TpsMeter tpsMeter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.tpsMeter = tpsMeter;
+    }
+
+    // 최종 상태로 커밋되는 거래 1건
+    public void recordTransaction(Timestamp transactionDate, TransactionStatus status, BigDecimal amount) {
+        Buffer buffer = currentBuffer();
+        buffer.transactions().add(new TransactionChange(toLocalDateTime(transactionDate), status, 1, amount));
+        mergeIfNoTransaction(buffer);
+    }
+
+    // 이미 집계된 거래의 상태 변경 (원거래 시각 버킷에서 옮김)
+    public void recordTransactionStatusChange(Timestamp transactionDate, TransactionStatus from, TransactionStatus to, BigDecimal amount) {
+        LocalDateTime occurredAt = toLocalDateTime(transactionDate);
+        Buffer buffer = currentBuffer();
+        buffer.transactions().add(new TransactionChange(occurredAt, from, -1, amount));
+        buffer.transactions().add(new TransactionChange(occurredAt, to, 1, amount));
+        mergeIfNoTransaction(buffer);
+    }
+
+    // 사용자 상태 변경 (가입은 from = null, 탈퇴는 to = null)
+    public void recordUserStatusChange(Status from, Status to) {
+        if (from == to) {
+            return;
+        }
+        Buffer buffer = currentBuffer();
+        if (from != null) {
+            buffer.users().add(new UserChange(from, -1));
+        }
+        if (to != null) {
+            buffer.users().add(new UserChange(to, 1));
+        }
+        mergeIfNoTransaction(buffer);
+    }
+
+    // 재구축 직전 호출: 재구축 스캔에 이미 포함될 변화량을 버림
+    public void discardPending() {
+        pendingTransactions.clear();
+        pendingUsers.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${ezpay.dashboard.rollup.flush-interval-ms:1000}")
+    public void flush() {
+        List<Map.Entry<TransactionKey, TransactionDelta>> transactions = drainTransactions();
+        List<Map.Entry<Status, Long>> users = drainUsers();
+        if (transactions.isEmpty() && users.isEmpty()) {
+            return;
+        }
+
+        try {
+            applyWithRetry(transactions, users);
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            transactions.forEach(entry -> pendingTransactions.merge(entry.getKey(), entry.getValue(), TransactionDelta::plus));
+            users.forEach(entry -> pendingUsers.merge(entry.getKey(), entry.getValue(), Long::sum));
+            log.error("대시보드 집계 반영 실패, 재시도 예정: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private List<Map.Entry<TransactionKey, TransactionDelta>> drainTransactions() {
+        List<Map.Entry<TransactionKey, TransactionDelta>> drained = new ArrayList<>();
+        for (TransactionKey key : pendingTransactions.keySet()) {
+            TransactionDelta delta = pendingTransactions.remove(key);
+            if (delta != null && !delta.isZero()) {
+                drained.add(Map.entry(key, delta));
+            }
+        }
+        // 인스턴스끼리 같은 순서로 행 락을 잡도록 정렬
+        drained.sort(Map.Entry.comparingByKey(KEY_ORDER));
+        return drained;
+    }
+
+    private List<Map.Entry<Status, Long>> drainUsers() {
+        List<Map.Entry<Status, Long>> drained = new ArrayList<>();
+        for (Status status : pendingUsers.keySet()) {
+            Long delta = pendingUsers.remove(status);
+            if (delta != null && delta != 0) {
+                drained.add(Map.entry(status, delta));
+            }
+        }
+        drained.sort(Map.Entry.comparingByKey());
+        return drained;
+    }
+
+    // 다른 인스턴스가 같은 새 버킷 행을 먼저 insert 하면 한 번 더 시도 (그때는 update 로 반영됨)
+    private void applyWithRetry(List<Map.Entry<TransactionKey, TransactionDelta>> transactions, List<Map.Entry<Status, Long>> users) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(transactions, users));
+        } catch (DataIntegrityViolationException e) {
+            transactionTemplate.executeWithoutResult(status -> apply(transactions, users));
+        }
+    }
+
+    private void apply(List<Map.Entry<TransactionKey, TransactionDelta>> transactions, List<Map.Entry<Status, Long>> users) {
+        if (!transactions.isEmpty()) {
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE_TRANSACTION_ROLLUP_SQL, transactions, transactions.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getValue().count());
+                ps.setBigDecimal(2, entry.getValue().volume());
+                ps.setString(3, entry.getKey().granularity().name());
+                ps.setTimestamp(4, Timestamp.valueOf(entry.getKey().bucketStart()));
+                ps.setString(5, entry.getKey().status().name());
+            });
+            List<Map.Entry<TransactionKey, TransactionDelta>> missing = new ArrayList<>();
+            for (int i = 0; i < transactions.size(); i++) {
+                if (updated[0][i] == 0) {
+                    missing.add(transactions.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TRANSACTION_ROLLUP_SQL, missing, missing.size(), (ps, entry) -> {
+                    ps.setString(1, entry.getKey().granularity().name());
+                    ps.setTimestamp(2, Timestamp.valueOf(entry.getKey().bucketStart()));
+                    ps.setString(3, entry.getKey().status().name());
+                    ps.setLong(4, entry.getValue().count());
+                    ps.setBigDecimal(5, entry.getValue().volume());
+                });
+            }
+        }
+
+        for (Map.Entry<Status, Long> entry : users) {
+            if (jdbcTemplate.update(UPDATE_USER_STATUS_SQL, entry.getValue(), entry.getKey().name()) == 0) {
+                jdbcTemplate.update(INSERT_USER_STATUS_SQL, entry.getKey().name(), entry.getValue());
+            }
+        }
+    }
+
+    // 트랜잭션마다 버퍼 하나를 바인딩하고 커밋된 경우에만 공용 버퍼로 합침
+    private Buffer currentBuffer() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Buffer(new ArrayList<>(2), new ArrayList<>(2));
+        }
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer != null) {
+            return buffer;
+        }
+
+        Buffer created = new Buffer(new ArrayList<>(), new ArrayList<>());
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DashboardRollupWriter.this);
+            }
+        });
+        return created;
+    }
+
+    private void mergeIfNoTransaction(Buffer buffer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(buffer);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp transactionDate) {
+        return transactionDate != null ? transactionDate.toLocalDateTime() : LocalDateTime.now();
+    }
+
+    private void merge(Buffer buffer) {
+        for (TransactionChange change : buffer.transactions()) {
+            // 처리 완료(성공/실패)로 커밋된 거래는 TPS 측정기에도 반영
+            if (change.count() > 0 && (change.status() == TransactionStatus.SUCCESS || change.status() == TransactionStatus.FAILED)) {
+                tpsMeter.record(change.status() == TransactionStatus.SUCCESS);
+            }
+            TransactionDelta delta = new TransactionDelta(change.count(),
+                    change.count() < 0 ? change.amount().negate() : change.amount());
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                TransactionKey key = new TransactionKey(granularity, granularity.bucketOf(change.occurredAt()), change.status());
+                pendingTransactions.merge(key, delta, TransactionDelta::plus);
+            }
+        }
+        for (UserChange change : buffer.users()) {
+            pendingUsers.merge(change.status(), (long) change.delta(), Long::sum);
+        }
+    }
+
+    private record Buffer(List<TransactionChange> transactions, List<UserChange> users) {
+    }
+
+    private record TransactionChange(LocalDateTime occurredAt, TransactionStatus status, int count, BigDecimal amount) {
+    }
+
+    private record UserChange(Status status, int delta) {
+    }
+
+    private record TransactionKey(RollupGranularity granularity, LocalDateTime bucketStart, TransactionStatus status) {
+    }
+
+    private record TransactionDelta(long count, BigDecimal volume) {
+        private TransactionDelta plus(TransactionDelta other) {
+            return new TransactionDelta(count + other.count, volume.add(other.volume));
+        }
+
+        private boolean isZero() {
+            return count == 0 && volume.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.ezpay.modules.dashboard.service;
+
+import com.example.ezpay.model.user.ErrorLog;
+import com.example.ezpay.model.user.Transaction;
+import com.example.ezpay.modules.admin.api.dto.RecentActivityLog;
+import com.example.ezpay.modules.payment.internal.service.TransferCompletedEvent;
+import com.example.ezpay.modules.systemlog.entity.LogLevel;
+import com.example.ezpay.modules.systemlog.entity.SystemLog;
+import com.example.ezpay.modules.systemlog.repository.SystemLogRepository;
+import com.example.ezpay.repository.user.ErrorLogRepository;
+import com.example.ezpay.repository.user.TransactionRepository;
+import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 관리자 최근 활동 피드 버퍼 (lock-free, 고정 크기)
+ * - 송금 완료(커밋 후), 장애 로그, WARN/ERROR 시스템 로그를 발생 순서대로 링에 덮어쓰며 쌓는다.
+ * - 조회(API/SSE)는 링에서 최신순으로 읽기만 하므로 DB 를 건드리지 않는다.
+ * - 기동 시 거래/장애/시스템 로그의 최신 N건(인덱스 top-N 조회)으로 채운다.
+ */
+@Slf4j
+@Component
+public class RecentActivityBuffer {
+
+    // 피드를 가득 채우지 않도록 INFO/DEBUG 시스템 로그는 제외
+    private static final Set<LogLevel> FEED_LOG_LEVELS = Set.of(LogLevel.WARN, LogLevel.ERROR);
+
+    private final TransactionRepository transactionRepository;
+    private final ErrorLogRepository errorLogRepository;
+    private final SystemLogRepository systemLogRepository;
+    private final int warmSize;
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RecentActivityBuffer(TransactionRepository transactionRepository,
+                                ErrorLogRepository errorLogRepository,
+                                SystemLogRepository systemLogRepository,
+                                @Value("${ezpay.dashboard.activity.capacity:500}") int capacity,
+                                @Value("${ezpay.dashboard.activity.warm-size:100}") int warmSize) {
+        this.transactionRepository = transactionRepository;
+        this.errorLogRepository = errorLogRepository;
+        this.systemLogRepository = systemLogRepository;
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+        this.warmSize = Math.min(Math.max(0, warmSize), slots.length());
+    }
+
+    // 리스너/스케줄러가 시작되기 전에 최근 이력으로 채움
+    @PostConstruct
+    public void warmUp() {
+        if (warmSize == 0) {
+            return;
+        }
+        try {
+            PageRequest top = PageRequest.of(0, warmSize);
+            List<RecentActivityLog> activities = new ArrayList<>();
+            transactionRepository.findRecentWithSender(top).forEach(transaction -> activities.add(transfer(
+                    transaction.getStatus(), transaction.getAmount(), transaction.getSenderAccount().getUser().getName(),
+                    transaction.getTransactionDate().toLocalDateTime())));
+            errorLogRepository.findAllByOrderByOccurredAtDesc(top).forEach(errorLog -> activities.add(fromErrorLog(errorLog)));
+            systemLogRepository.findByLevelInOrderByLogTimeDesc(FEED_LOG_LEVELS, top).forEach(systemLog -> activities.add(fromSystemLog(systemLog)));
+
+            activities.stream()
+                    .sorted(Comparator.comparing(RecentActivityLog::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .skip(Math.max(0, activities.size() - warmSize))
+                    .forEach(this::add);
+            log.info("최근 활동 버퍼 적재: {}건", Math.min(activities.size(), warmSize));
+        } catch (Exception e) {
+            log.warn("최근 활동 버퍼 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    // 송금 결과 확정(커밋) 후
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        Transaction transaction = event.transaction();
+        add(transfer(transaction.getStatus(), transaction.getAmount(), event.senderName(), LocalDateTime.now()));
+    }
+
+    public void recordErrorLog(String serviceName, String errorMessage, ErrorLogStatus status, LocalDateTime occurredAt) {
+        add(RecentActivityLog.builder()
+                .type("error")
+                .description(serviceName + " - " + errorMessage)
+                .timestamp(occurredAt)
+                .status(status == ErrorLogStatus.UNRESOLVED ? "failed" : "resolved")
+                .build());
+    }
+
+    public void recordSystemLog(SystemLog systemLog) {
+        if (systemLog.getLevel() != null && FEED_LOG_LEVELS.contains(systemLog.getLevel())) {
+            add(fromSystemLog(systemLog));
+        }
+    }
+
+    public void add(RecentActivityLog activity) {
+        long next = sequence.getAndIncrement();
+        slots.set(index(next), new Slot(next, activity));
+    }
+
+    // 최신순 최대 limit 건
+    public List<RecentActivityLog> latest(int limit) {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        int size = (int) Math.min(Math.max(0, limit), end - start);
+        List<RecentActivityLog> result = new ArrayList<>(size);
+        for (long seq = end - 1; seq >= start && result.size() < size; seq--) {
+            Slot slot = slots.get(index(seq));
+            // 번호만 받고 아직 쓰지 않았거나, 그새 덮어쓴 칸은 건너뜀
+            if (slot != null && slot.sequence() == seq) {
+                result.add(slot.activity());
+            }
+        }
+        return result;
+    }
+
+    // 지금까지 추가된 활동 수 (SSE 중복 전송 판단용)
+    public long lastSequence() {
+        return sequence.get();
+    }
+
+    private int index(long seq) {
+        return (int) Math.floorMod(seq, (long) slots.length());
+    }
+
+    private static RecentActivityLog transfer(TransactionStatus status, BigDecimal amount, String senderName, LocalDateTime timestamp) {
+        boolean failed = status == TransactionStatus.FAILED;
+        return RecentActivityLog.builder()
+                .type("transaction")
+                .description(String.format(failed ? "₩%s 송금 실패" : "₩%s 송금 완료", amount != null ? amount.toPlainString() : "0"))
+                .timestamp(timestamp)
+                .userName(senderName)
+                .status(status != null ? status.name().toLowerCase() : null)
+                .build();
+    }
+
+    private static RecentActivityLog fromErrorLog(ErrorLog errorLog) {
+        return RecentActivityLog.builder()
+                .type("error")
+                .description(errorLog.getServiceName() + " - " + errorLog.getErrorMessage())
+                .timestamp(errorLog.getOccurredAt().toLocalDateTime())
+                .status(errorLog.getStatus() == ErrorLogStatus.UNRESOLVED ? "failed" : "resolved")
+                .build();
+    }
+
+    private static RecentActivityLog fromSystemLog(SystemLog systemLog) {
+        return RecentActivityLog.builder()
+                .type("system")
+                .description(systemLog.getService() + " - " + systemLog.getMessage())
+                .timestamp(systemLog.getLogTime())
+                .status(systemLog.getLevel() == LogLevel.ERROR ? "failed" : "warning")
+                .build();
+    }
+
+    private record Slot(long sequence, RecentActivityLog activity) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.ezpay.modules.dashboard.service;
+
+import com.example.ezpay.modules.dashboard.entity.TpsMinuteSummary;
+import com.example.ezpay.modules.dashboard.repository.TpsMinuteSummaryRepository;
+import com.example.ezpay.modules.dashboard.repository.TpsMinuteSummaryRepository.TpsTotals;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 송금 처리량(TPS) 측정기
+ * - 초 단위 슬롯 링에 성공/실패 건수를 LongAdder(스트라이프 카운터)로 더한다. 기록 경로에는 락이 없다.
+ *   슬롯은 새 초가 시작될 때 CAS 로 새 슬롯으로 교체되므로 이전 초 카운터를 지우는 경쟁이 없다.
+ * - 1초마다 지난 초들을 마감해 오늘 누적/최고 TPS 와 분 단위 누적을 갱신하고, 분이 바뀌면 분 요약을 한 행 저장한다.
+ * - 현재/최고/평균 TPS 조회는 마감된 누적값과 마감 전 슬롯 몇 개만 읽는다. (거래 수와 무관)
+ * - 재기동 시 같은 인스턴스 ID 의 오늘 분 요약으로 누적/최고 TPS 를 복원한다.
+ */
+@Slf4j
+@Component
+public class TpsMeter {
+
+    private final TpsMinuteSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+    private final long summaryRetentionDays;
+    private final AtomicReferenceArray<Second> ring;
+
+    // 마감 상태 (마감 스레드에서만 변경, 조회와는 this 로 동기화)
+    private long lastClosedSecond;
+    private LocalDate day;
+    private long daySuccess;
+    private long dayFailed;
+    private long dayPeak;
+    private LocalDateTime minuteStart;
+    private long minuteSuccess;
+    private long minuteFailed;
+    private long minutePeak;
+
+    public TpsMeter(TpsMinuteSummaryRepository summaryRepository,
+                    TransactionTemplate transactionTemplate,
+                    @Value("${ezpay.dashboard.tps.instance-id:${HOSTNAME:local}}") String instanceId,
+                    @Value("${ezpay.dashboard.tps.ring-seconds:120}") int ringSeconds,
+                    @Value("${ezpay.dashboard.tps.summary-retention-days:7}") long summaryRetentionDays) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.instanceId = instanceId;
+        this.summaryRetentionDays = summaryRetentionDays;
+        this.ring = new AtomicReferenceArray<>(Math.max(10, ringSeconds));
+
+        long now = currentSecond();
+        this.lastClosedSecond = now - 1;
+        this.day = toLocalDateTime(now).toLocalDate();
+        this.minuteStart = toLocalDateTime(now).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    // 재기동 전까지 저장된 오늘 분 요약 복원
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restoreToday() {
+        try {
+            TpsTotals totals = summaryRepository.sumSince(instanceId, day.atStartOfDay());
+            daySuccess += totals.getSuccessCount();
+            dayFailed += totals.getFailedCount();
+            dayPeak = Math.max(dayPeak, totals.getPeakTps());
+        } catch (Exception e) {
+            log.warn("오늘 TPS 요약 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    public void record(boolean success) {
+        Second slot = slotFor(currentSecond());
+        if (success) {
+            slot.success.increment();
+        } else {
+            slot.failed.increment();
+        }
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public synchronized void closeElapsedSeconds() {
+        long now = currentSecond();
+        // 링 크기보다 오래 멈춰 있었으면 이미 덮어쓴 초는 건너뜀
+        long from = Math.max(lastClosedSecond + 1, now - ring.length() + 1);
+        for (long second = from; second < now; second++) {
+            close(second);
+        }
+        lastClosedSecond = Math.max(lastClosedSecond, now - 1);
+    }
+
+    public synchronized TpsSnapshot snapshot() {
+        long now = currentSecond();
+        long success = daySuccess;
+        long failed = dayFailed;
+        long peak = dayPeak;
+        // 아직 마감하지 않은 초 (보통 1~2개)
+        for (long second = Math.max(lastClosedSecond + 1, now - ring.length() + 1); second <= now; second++) {
+            Second slot = ring.get(index(second));
+            if (slot != null && slot.epochSecond == second) {
+                success += slot.success.sum();
+                failed += slot.failed.sum();
+                peak = Math.max(peak, slot.total());
+            }
+        }
+
+        LocalDateTime timestamp = toLocalDateTime(now);
+        long elapsedSeconds = Math.max(1, Duration.between(timestamp.toLocalDate().atStartOfDay(), timestamp).getSeconds());
+        return new TpsSnapshot(totalOf(now - 1), peak, (success + failed) / (double) elapsedSeconds, success, failed, LocalDateTime.now());
+    }
+
+    // 종료 시 진행 중인 분까지 저장
+    @PreDestroy
+    public synchronized void shutdown() {
+        closeElapsedSeconds();
+        persistMinute();
+    }
+
+    private void close(long second) {
+        LocalDateTime time = toLocalDateTime(second);
+        LocalDateTime secondMinute = time.truncatedTo(ChronoUnit.MINUTES);
+        if (!secondMinute.equals(minuteStart)) {
+            persistMinute();
+            minuteStart = secondMinute;
+        }
+        if (!time.toLocalDate().equals(day)) {
+            day = time.toLocalDate();
+            daySuccess = 0;
+            dayFailed = 0;
+            dayPeak = 0;
+            purgeOldSummaries();
+        }
+
+        Second slot = ring.get(index(second));
+        if (slot == null || slot.epochSecond != second) {
+            return;
+        }
+        long success = slot.success.sum();
+        long failed = slot.failed.sum();
+        daySuccess += success;
+        dayFailed += failed;
+        dayPeak = Math.max(dayPeak, success + failed);
+        minuteSuccess += success;
+        minuteFailed += failed;
+        minutePeak = Math.max(minutePeak, success + failed);
+    }
+
+    private void persistMinute() {
+        if (minuteSuccess + minuteFailed == 0) {
+            return;
+        }
+        try {
+            summaryRepository.save(new TpsMinuteSummary(instanceId, minuteStart, minuteSuccess, minuteFailed, minutePeak));
+        } catch (Exception e) {
+            log.warn("TPS 분 요약 저장 실패: minute={}, {}", minuteStart, e.getMessage());
+        }
+        minuteSuccess = 0;
+        minuteFailed = 0;
+        minutePeak = 0;
+    }
+
+    private void purgeOldSummaries() {
+        try {
+            LocalDateTime before = day.minusDays(summaryRetentionDays).atStartOfDay();
+            transactionTemplate.executeWithoutResult(status -> summaryRepository.deleteOlderThan(before));
+        } catch (Exception e) {
+            log.warn("TPS 분 요약 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private long totalOf(long second) {
+        Second slot = ring.get(index(second));
+        return slot != null && slot.epochSecond == second ? slot.total() : 0;
+    }
+
+    // 해당 초의 슬롯, 이전 초가 남아 있으면 새 슬롯으로 교체
+    private Second slotFor(long second) {
+        int index = index(second);
+        while (true) {
+            Second current = ring.get(index);
+            if (current != null && current.epochSecond >= second) {
+                // 링 한 바퀴 이상 늦은 기록은 이미 마감된 초이므로 버림
+                return current.epochSecond == second ? current : new Second(second);
+            }
+            Second fresh = new Second(second);
+            if (ring.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int index(long second) {
+        return (int) Math.floorMod(second, (long) ring.length());
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+
+    private static final class Second {
+        private final long epochSecond;
+        private final LongAdder success = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Second(long epochSecond) {
+            this.epochSecond = epochSecond;
+        }
+
+        private long total() {
+            return success.sum() + failed.sum();
+        }
+    }
+
+    public record TpsSnapshot(long currentTps, long peakTps, double avgTps, long successCount, long failedCount,
+                              LocalDateTime timestamp) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ezpay.modules.kafka.entity;
 
+import com.example.ezpay.shared.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class FailedEventLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "failed_event_log_seq")
+    @SequenceGenerator(name = "failed_event_log_seq", sequenceName = "failed_event_log_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
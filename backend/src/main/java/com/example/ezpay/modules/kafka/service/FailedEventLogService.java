@@ -20,11 +20,17 @@ public class FailedEventLogService {
 
     @Transactional
     public void saveFailedEvent(ConsumerRecord<String, Object> record, String errorMessage) {
+        saveFailedEvent(record.topic(), record.key(), record.value(), errorMessage);
+    }
+
+    // Kafka 외 경로(인프로세스 송금 엔진 등)에서 최종 실패한 이벤트 기록
+    @Transactional
+    public void saveFailedEvent(String topic, String key, Object payload, String errorMessage) {
         try {
-            String payloadAsString = getPayloadAsString(record.value());
+            String payloadAsString = getPayloadAsString(payload);
             FailedEventLog logEntry = FailedEventLog.builder()
-                    .topic(record.topic())
-                    .kafkaKey(record.key())
+                    .topic(topic)
+                    .kafkaKey(key)
                     .payload(payloadAsString)
                     .errorMessage(errorMessage)
                     .build();
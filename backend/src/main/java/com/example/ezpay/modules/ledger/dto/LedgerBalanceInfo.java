@@ -0,0 +1,18 @@
+package com.example.ezpay.modules.ledger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 원장 기준 특정 시점 잔액 (스냅샷 + 이후 분개)
+@Getter
+@AllArgsConstructor
+public class LedgerBalanceInfo {
+    private Long accountId;
+    private LocalDateTime asOf;
+    private BigDecimal balance;
+    private LocalDateTime snapshotAsOf; // 사용한 스냅샷 시점 (없으면 null)
+    private long entriesApplied;        // 스냅샷 이후 합산한 분개 수
+}
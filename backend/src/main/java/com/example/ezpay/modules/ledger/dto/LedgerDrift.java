@@ -0,0 +1,16 @@
+package com.example.ezpay.modules.ledger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 원장 잔액과 계좌 잔액(accounts.balance + 핫 계좌 슬롯)이 다른 계좌
+@Getter
+@AllArgsConstructor
+public class LedgerDrift {
+    private Long accountId;
+    private BigDecimal ledgerBalance;
+    private BigDecimal accountBalance;
+    private BigDecimal difference; // accountBalance - ledgerBalance
+}
@@ -0,0 +1,42 @@
+package com.example.ezpay.modules.ledger.dto;
+
+import com.example.ezpay.modules.ledger.entity.LedgerEntry;
+import com.example.ezpay.modules.ledger.entity.LedgerEntryReason;
+import com.example.ezpay.modules.ledger.entity.LedgerEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntryInfo {
+    private Long id;
+    private Long accountId;
+    private Long counterpartyAccountId;
+    private Long transactionId;
+    private String reference;
+    private LedgerEntryType entryType;
+    private LedgerEntryReason reason;
+    private BigDecimal amount;
+    private LocalDateTime createdAt;
+
+    public static LedgerEntryInfo from(LedgerEntry entity) {
+        return LedgerEntryInfo.builder()
+                .id(entity.getId())
+                .accountId(entity.getAccountId())
+                .counterpartyAccountId(entity.getCounterpartyAccountId())
+                .transactionId(entity.getTransactionId())
+                .reference(entity.getReference())
+                .entryType(entity.getEntryType())
+                .reason(entity.getReason())
+                .amount(entity.getAmount())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
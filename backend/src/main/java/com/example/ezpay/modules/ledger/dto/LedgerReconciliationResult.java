@@ -0,0 +1,17 @@
+package com.example.ezpay.modules.ledger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LedgerReconciliationResult {
+    private LocalDateTime checkedAt;
+    private long accountsChecked;
+    private long driftCount;
+    private List<LedgerDrift> drifts; // 최대 ezpay.ledger.reconciliation.max-reported 건
+    private long elapsedMs;
+}
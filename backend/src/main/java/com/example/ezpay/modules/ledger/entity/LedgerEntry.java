@@ -0,0 +1,54 @@
+package com.example.ezpay.modules.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 잔액 변경 원장 (append-only) - LedgerWriter 가 JDBC 배치로만 기록하고 수정/삭제하지 않는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ledger_entries",
+        indexes = {
+                @Index(name = "idx_ledger_entries_account_created", columnList = "accountId, createdAt"),
+                @Index(name = "idx_ledger_entries_reference", columnList = "reference")
+        }
+)
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    // 상대 계좌 (OPENING/ADJUSTMENT 는 없음)
+    private Long counterpartyAccountId;
+
+    private Long transactionId;
+
+    // 송금 requestId, 대량 송금 bulkRequestId 등 분개 묶음 식별자
+    @Column(length = 64)
+    private String reference;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private LedgerEntryType entryType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LedgerEntryReason reason;
+
+    // 항상 양수, 방향은 entryType
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
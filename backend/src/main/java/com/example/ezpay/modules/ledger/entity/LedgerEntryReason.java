@@ -0,0 +1,10 @@
+package com.example.ezpay.modules.ledger.entity;
+
+public enum LedgerEntryReason {
+    OPENING,       // 원장 도입/계좌 개설 시점 잔액
+    TRANSFER,      // 일반 송금
+    CANCEL,        // 송금 취소 (원거래 반대 분개)
+    BULK_TRANSFER, // 대량 송금 (출금 1건 + 항목별 입금)
+    BULK_REFUND,   // 대량 송금 입금 실패분 환불
+    ADJUSTMENT     // 잔액 직접 조정
+}
@@ -0,0 +1,6 @@
+package com.example.ezpay.modules.ledger.entity;
+
+public enum LedgerEntryType {
+    DEBIT,  // 출금 (잔액 감소)
+    CREDIT  // 입금 (잔액 증가)
+}
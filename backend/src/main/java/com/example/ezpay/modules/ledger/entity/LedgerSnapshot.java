@@ -0,0 +1,38 @@
+package com.example.ezpay.modules.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 계좌별 asOf 시점까지의 원장 잔액 (직전 스냅샷 + 구간 분개 합계로 주기적으로 생성)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ledger_snapshots",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ledger_snapshots_account_as_of", columnNames = {"accountId", "asOf"})
+        }
+)
+public class LedgerSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private LocalDateTime asOf;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal balance;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.example.ezpay.modules.ledger.repository;
+
+import com.example.ezpay.modules.ledger.entity.LedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    Page<LedgerEntry> findByAccountIdOrderByIdDesc(Long accountId, Pageable pageable);
+
+    // (from, to] 구간 분개의 부호 있는 합계 (idx_ledger_entries_account_created 범위 스캔)
+    @Query("select coalesce(sum(case when e.entryType = com.example.ezpay.modules.ledger.entity.LedgerEntryType.DEBIT then -e.amount else e.amount end), 0) as amount, " +
+            "count(e) as entries " +
+            "from LedgerEntry e where e.accountId = :accountId and e.createdAt > :from and e.createdAt <= :to")
+    LedgerRangeSum sumRange(@Param("accountId") Long accountId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface LedgerRangeSum {
+        BigDecimal getAmount();
+        Long getEntries();
+    }
+}
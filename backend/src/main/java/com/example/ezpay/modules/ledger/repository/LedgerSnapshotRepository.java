@@ -0,0 +1,16 @@
+package com.example.ezpay.modules.ledger.repository;
+
+import com.example.ezpay.modules.ledger.entity.LedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LedgerSnapshotRepository extends JpaRepository<LedgerSnapshot, Long> {
+
+    Optional<LedgerSnapshot> findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(Long accountId, LocalDateTime asOf);
+
+    @Query("select max(s.asOf) from LedgerSnapshot s")
+    Optional<LocalDateTime> findLatestAsOf();
+}
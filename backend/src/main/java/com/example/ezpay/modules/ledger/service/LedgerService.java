@@ -0,0 +1,216 @@
+package com.example.ezpay.modules.ledger.service;
+
+import com.example.ezpay.modules.ledger.dto.LedgerBalanceInfo;
+import com.example.ezpay.modules.ledger.dto.LedgerDrift;
+import com.example.ezpay.modules.ledger.dto.LedgerEntryInfo;
+import com.example.ezpay.modules.ledger.dto.LedgerReconciliationResult;
+import com.example.ezpay.modules.ledger.entity.LedgerSnapshot;
+import com.example.ezpay.modules.ledger.repository.LedgerEntryRepository;
+import com.example.ezpay.modules.ledger.repository.LedgerEntryRepository.LedgerRangeSum;
+import com.example.ezpay.modules.ledger.repository.LedgerSnapshotRepository;
+import com.example.ezpay.service.user.ErrorLogService;
+import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장 조회/스냅샷/대사
+ * - 스냅샷: 직전 스냅샷 + (직전 asOf, 새 asOf] 분개 합계를 계좌별로 한 번의 INSERT ... SELECT 로 생성
+ * - 특정 시점 잔액: asOf 이전 최신 스냅샷 + 그 이후 분개 범위 합계 (인덱스 범위 스캔 1회)
+ * - 대사: 원장 잔액과 accounts.balance(+핫 계좌 슬롯)를 한 문장으로 비교해 불일치 계좌만 조회
+ * 스냅샷/대사 작업은 인스턴스 하나에서만 돌도록 ezpay.ledger.jobs.enabled 로 제어한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+
+    // 부호 있는 분개 금액
+    private static final String SIGNED_AMOUNT = "case when e.entry_type = 'DEBIT' then -e.amount else e.amount end";
+
+    // 계좌별 최신 스냅샷 조인 조건
+    private static final String LATEST_SNAPSHOT_JOIN =
+            "left join ledger_snapshots l on l.account_id = %s.account_id " +
+                    "and l.as_of = (select max(x.as_of) from ledger_snapshots x where x.account_id = %s.account_id) ";
+
+    // 원장 도입 이전부터 있던 계좌(또는 개설 분개가 없는 계좌)에 개설 분개 추가
+    // 현재 잔액 - 이미 기록된 분개 합계를 개설 금액으로 잡으므로, 도입 중에 처리된 송금이 있어도 합계가 맞는다.
+    private static final String INSERT_OPENING_SQL =
+            "insert into ledger_entries (account_id, entry_type, reason, amount, created_at) " +
+                    "select o.account_id, case when o.diff < 0 then 'DEBIT' else 'CREDIT' end, 'OPENING', abs(o.diff), ? from (" +
+                    "  select a.account_id, a.balance " +
+                    "    + coalesce((select sum(s.balance) from account_balance_slots s where s.account_id = a.account_id), 0) " +
+                    "    - coalesce((select sum(" + SIGNED_AMOUNT + ") from ledger_entries e where e.account_id = a.account_id), 0) as diff " +
+                    "  from accounts a " +
+                    "  where not exists (select 1 from ledger_entries p where p.account_id = a.account_id and p.reason = 'OPENING')" +
+                    ") o";
+
+    private static final String INSERT_SNAPSHOT_SQL =
+            "insert into ledger_snapshots (account_id, as_of, balance, created_at) " +
+                    "select e.account_id, ?, coalesce(max(l.balance), 0) + sum(" + SIGNED_AMOUNT + "), ? " +
+                    "from ledger_entries e " + LATEST_SNAPSHOT_JOIN.formatted("e", "e") +
+                    "where e.created_at <= ? and (l.as_of is null or e.created_at > l.as_of) " +
+                    "group by e.account_id";
+
+    private static final String DRIFT_SQL =
+            "select b.account_id, b.ledger_balance, b.account_balance from (" +
+                    "  select a.account_id, " +
+                    "    coalesce(l.balance, 0) + coalesce((select sum(" + SIGNED_AMOUNT + ") from ledger_entries e " +
+                    "      where e.account_id = a.account_id and (l.as_of is null or e.created_at > l.as_of)), 0) as ledger_balance, " +
+                    "    a.balance + coalesce((select sum(s.balance) from account_balance_slots s where s.account_id = a.account_id), 0) as account_balance " +
+                    "  from accounts a " + LATEST_SNAPSHOT_JOIN.formatted("a", "a") +
+                    ") b where b.ledger_balance <> b.account_balance order by b.account_id";
+
+    private static final LocalDateTime LEDGER_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerSnapshotRepository ledgerSnapshotRepository;
+    private final ErrorLogService errorLogService;
+
+    @Value("${ezpay.ledger.jobs.enabled:true}")
+    private boolean jobsEnabled;
+
+    // 커밋이 늦은 분개가 스냅샷 구간에서 빠지지 않도록 스냅샷 시점을 현재보다 이만큼 앞으로 잡음
+    @Value("${ezpay.ledger.snapshot.lag-seconds:300}")
+    private long snapshotLagSeconds;
+
+    @Value("${ezpay.ledger.reconciliation.max-reported:100}")
+    private int maxReportedDrifts;
+
+    private volatile LedgerReconciliationResult lastReconciliation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!jobsEnabled) {
+            return;
+        }
+        try {
+            int inserted = backfillOpeningEntries();
+            if (inserted > 0) {
+                log.info("원장 개설 분개 {}건 추가", inserted);
+            }
+        } catch (Exception e) {
+            log.error("원장 개설 분개 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @Transactional
+    public int backfillOpeningEntries() {
+        return jdbcTemplate.update(INSERT_OPENING_SQL, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Scheduled(cron = "${ezpay.ledger.snapshot.cron:0 0 * * * *}")
+    public void scheduledSnapshot() {
+        if (!jobsEnabled) {
+            return;
+        }
+        try {
+            createSnapshots();
+        } catch (Exception e) {
+            log.error("원장 스냅샷 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${ezpay.ledger.reconciliation.cron:0 30 * * * *}")
+    public void scheduledReconciliation() {
+        if (!jobsEnabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("원장 대사 실패: {}", e.getMessage());
+        }
+    }
+
+    // 변경이 있었던 계좌만 새 스냅샷 생성, 생성 건수 반환
+    @Transactional
+    public int createSnapshots() {
+        LocalDateTime asOf = LocalDateTime.now().minusSeconds(snapshotLagSeconds).truncatedTo(ChronoUnit.SECONDS);
+        Optional<LocalDateTime> latest = ledgerSnapshotRepository.findLatestAsOf();
+        if (latest.isPresent() && !asOf.isAfter(latest.get())) {
+            return 0;
+        }
+
+        try {
+            int created = jdbcTemplate.update(INSERT_SNAPSHOT_SQL,
+                    Timestamp.valueOf(asOf), Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(asOf));
+            log.info("원장 스냅샷 생성: asOf={}, accounts={}", asOf, created);
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 asOf 로 먼저 생성
+            log.warn("원장 스냅샷 중복 생성 시도: asOf={}", asOf);
+            return 0;
+        }
+    }
+
+    public LedgerReconciliationResult reconcile() {
+        long startedAt = System.currentTimeMillis();
+        backfillOpeningEntries();
+
+        Long accountCount = jdbcTemplate.queryForObject("select count(*) from accounts", Long.class);
+        List<LedgerDrift> drifts = jdbcTemplate.query(DRIFT_SQL, (rs, rowNum) -> {
+            BigDecimal ledgerBalance = rs.getBigDecimal("ledger_balance");
+            BigDecimal accountBalance = rs.getBigDecimal("account_balance");
+            return new LedgerDrift(rs.getLong("account_id"), ledgerBalance, accountBalance, accountBalance.subtract(ledgerBalance));
+        });
+
+        LedgerReconciliationResult result = new LedgerReconciliationResult(
+                LocalDateTime.now(),
+                accountCount != null ? accountCount : 0,
+                drifts.size(),
+                drifts.stream().limit(maxReportedDrifts).toList(),
+                System.currentTimeMillis() - startedAt
+        );
+        lastReconciliation = result;
+
+        if (!drifts.isEmpty()) {
+            log.error("원장 대사 불일치: {}개 계좌 (예: {})", drifts.size(), drifts.get(0).getAccountId());
+            errorLogService.logError("Ledger", "원장 대사 불일치 계좌 " + drifts.size() + "개", ErrorLogStatus.UNRESOLVED);
+        }
+        return result;
+    }
+
+    public Optional<LedgerReconciliationResult> getLastReconciliation() {
+        return Optional.ofNullable(lastReconciliation);
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerBalanceInfo getBalanceAsOf(Long accountId, LocalDateTime asOf) {
+        Optional<LedgerSnapshot> snapshot = ledgerSnapshotRepository.findFirstByAccountIdAndAsOfLessThanEqualOrderByAsOfDesc(accountId, asOf);
+        LocalDateTime from = snapshot.map(LedgerSnapshot::getAsOf).orElse(LEDGER_EPOCH);
+        BigDecimal base = snapshot.map(LedgerSnapshot::getBalance).orElse(BigDecimal.ZERO);
+
+        LedgerRangeSum range = ledgerEntryRepository.sumRange(accountId, from, asOf);
+        return new LedgerBalanceInfo(
+                accountId,
+                asOf,
+                base.add(range.getAmount()),
+                snapshot.map(LedgerSnapshot::getAsOf).orElse(null),
+                range.getEntries()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Page<LedgerEntryInfo> getEntries(Long accountId, Pageable pageable) {
+        return ledgerEntryRepository.findByAccountIdOrderByIdDesc(accountId, pageable).map(LedgerEntryInfo::from);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.ezpay.modules.ledger.service;
+
+import com.example.ezpay.modules.ledger.entity.LedgerEntryReason;
+import com.example.ezpay.modules.ledger.entity.LedgerEntryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원장 분개 기록기
+ * - 잔액을 바꾸는 트랜잭션 안에서 호출하면 분개를 모아 두었다가 커밋 직전(beforeCommit)에 JDBC 배치 1회로 insert 한다.
+ * - 잔액 변경과 같은 트랜잭션이므로 롤백되면 분개도 함께 사라진다.
+ * - 송금은 출금 계좌 DEBIT + 수신 계좌 CREDIT 한 쌍으로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerWriter {
+
+    private static final String INSERT_ENTRY_SQL =
+            "insert into ledger_entries (account_id, counterparty_account_id, transaction_id, reference, entry_type, reason, amount, created_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void recordTransfer(Long fromAccountId, Long toAccountId, BigDecimal amount,
+                               Long transactionId, String reference, LedgerEntryReason reason) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingEntry> buffer = currentBuffer();
+        buffer.add(new PendingEntry(fromAccountId, toAccountId, transactionId, reference, LedgerEntryType.DEBIT, reason, amount, now));
+        buffer.add(new PendingEntry(toAccountId, fromAccountId, transactionId, reference, LedgerEntryType.CREDIT, reason, amount, now));
+        flushIfNoTransaction(buffer);
+    }
+
+    public void recordDebit(Long accountId, Long counterpartyAccountId, BigDecimal amount,
+                            Long transactionId, String reference, LedgerEntryReason reason) {
+        record(new PendingEntry(accountId, counterpartyAccountId, transactionId, reference, LedgerEntryType.DEBIT, reason, amount, LocalDateTime.now()));
+    }
+
+    public void recordCredit(Long accountId, Long counterpartyAccountId, BigDecimal amount,
+                             Long transactionId, String reference, LedgerEntryReason reason) {
+        record(new PendingEntry(accountId, counterpartyAccountId, transactionId, reference, LedgerEntryType.CREDIT, reason, amount, LocalDateTime.now()));
+    }
+
+    // 잔액 직접 조정 (양수면 CREDIT, 음수면 DEBIT)
+    public void recordAdjustment(Long accountId, BigDecimal delta, LedgerEntryReason reason) {
+        if (delta.signum() == 0) {
+            return;
+        }
+        LedgerEntryType type = delta.signum() > 0 ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT;
+        record(new PendingEntry(accountId, null, null, null, type, reason, delta.abs(), LocalDateTime.now()));
+    }
+
+    private void record(PendingEntry entry) {
+        List<PendingEntry> buffer = currentBuffer();
+        buffer.add(entry);
+        flushIfNoTransaction(buffer);
+    }
+
+    // 트랜잭션마다 버퍼 하나를 바인딩하고 커밋 직전에 비움
+    @SuppressWarnings("unchecked")
+    private List<PendingEntry> currentBuffer() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new ArrayList<>(2);
+        }
+        List<PendingEntry> buffer = (List<PendingEntry>) TransactionSynchronizationManager.getResource(this);
+        if (buffer != null) {
+            return buffer;
+        }
+
+        List<PendingEntry> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                writeEntries(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LedgerWriter.this);
+            }
+        });
+        return created;
+    }
+
+    private void flushIfNoTransaction(List<PendingEntry> buffer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeEntries(buffer);
+        }
+    }
+
+    private void writeEntries(List<PendingEntry> buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, buffer, buffer.size(), (ps, entry) -> {
+            ps.setLong(1, entry.accountId());
+            setNullableLong(ps, 2, entry.counterpartyAccountId());
+            setNullableLong(ps, 3, entry.transactionId());
+            ps.setString(4, entry.reference());
+            ps.setString(5, entry.entryType().name());
+            ps.setString(6, entry.reason().name());
+            ps.setBigDecimal(7, entry.amount());
+            ps.setTimestamp(8, Timestamp.valueOf(entry.createdAt()));
+        });
+        buffer.clear();
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private record PendingEntry(Long accountId, Long counterpartyAccountId, Long transactionId, String reference,
+                                LedgerEntryType entryType, LedgerEntryReason reason, BigDecimal amount, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ezpay.modules.notification.internal.service;
+
+import com.example.ezpay.model.user.Notification;
+import com.example.ezpay.repository.user.NotificationRepository;
+import com.example.ezpay.shared.common.enums.NotificationType;
+import com.example.ezpay.shared.util.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자별 이메일 알림 수신 여부 캐시 (송금 완료 메일 발송 판단용)
+ * - 알림 설정 변경/삭제, 사용자 삭제 시 evict 로 즉시 + 커밋 직후 두 번 무효화
+ */
+@Component
+public class NotificationPreferenceCache {
+
+    private final NotificationRepository notificationRepository;
+    private final TtlCache<Long, Boolean> emailEnabled;
+
+    public NotificationPreferenceCache(NotificationRepository notificationRepository,
+                                       @Value("${ezpay.cache.user-settings.max-size:10000}") int maxSize,
+                                       @Value("${ezpay.cache.user-settings.ttl-seconds:300}") long ttlSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.emailEnabled = new TtlCache<>("emailNotification", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public boolean isEmailEnabled(Long userId) {
+        return emailEnabled.get(userId, id -> Optional.of(notificationRepository.findByUserId(id).stream()
+                        .filter(notification -> notification.getNotificationType() == NotificationType.EMAIL)
+                        .findFirst()
+                        .map(Notification::getIsEnabled)
+                        .orElse(false)))
+                .orElse(false);
+    }
+
+    public void evict(Long userId) {
+        emailEnabled.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailEnabled.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public TtlCache.Stats stats() {
+        return emailEnabled.stats();
+    }
+}
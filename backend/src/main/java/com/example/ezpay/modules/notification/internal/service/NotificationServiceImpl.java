@@ -24,6 +24,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final JavaMailSender mailSender;
+    private final NotificationPreferenceCache notificationPreferenceCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,6 +48,7 @@ public class NotificationServiceImpl implements NotificationService {
 
         notification.setIsEnabled(notificationRequest.getIsEnabled());
         notificationRepository.save(notification);
+        notificationPreferenceCache.evict(userId);
 
         if(notification.getNotificationType() == NotificationType.EMAIL
                 && Boolean.TRUE.equals(notificationRequest.getIsEnabled())) {
@@ -59,10 +61,10 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional
     public void deleteNotification(Long notificationId) {
-        if (!notificationRepository.existsById(notificationId)) {
-            throw new EntityNotFoundException("알림을 찾을 수 없습니다.");
-        }
-        notificationRepository.deleteById(notificationId);
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new EntityNotFoundException("알림을 찾을 수 없습니다."));
+        notificationRepository.delete(notification);
+        notificationPreferenceCache.evict(notification.getUser().getUserId());
     }
 
     private void initEmail(String to) {
@@ -0,0 +1,95 @@
+package com.example.ezpay.modules.outbox.entity;
+
+import com.example.ezpay.shared.common.enums.OutboxStatus;
+import com.example.ezpay.shared.persistence.IdSequences;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 트랜잭셔널 아웃박스: 업무 트랜잭션과 함께 기록되고 OutboxDispatcher 가 비동기로 처리하는 후처리 이벤트
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, nextAttemptAt")
+        }
+)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    @Column(length = 64)
+    private String aggregateId;
+
+    @Lob
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 처리 가능 시각, PROCESSING: 점유(lease) 만료 시각
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @Builder
+    public OutboxEvent(String eventType, String aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.PROCESSING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markDone() {
+        this.status = OutboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void markRetry(LocalDateTime nextAttemptAt, String error) {
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    public void markFailed(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = error;
+    }
+}
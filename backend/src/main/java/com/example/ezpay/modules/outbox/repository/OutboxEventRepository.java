@@ -0,0 +1,30 @@
+package com.example.ezpay.modules.outbox.repository;
+
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+import com.example.ezpay.shared.common.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리 가능한 이벤트 점유 (FOR UPDATE SKIP LOCKED - 여러 인스턴스의 디스패처가 서로 다른 행을 가져감)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.status in :statuses and e.nextAttemptAt <= :now order by e.id")
+    List<OutboxEvent> findClaimable(@Param("statuses") Collection<OutboxStatus> statuses,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :status and e.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
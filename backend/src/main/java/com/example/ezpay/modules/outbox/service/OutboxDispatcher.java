@@ -0,0 +1,158 @@
+package com.example.ezpay.modules.outbox.service;
+
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+import com.example.ezpay.modules.outbox.repository.OutboxEventRepository;
+import com.example.ezpay.service.user.ErrorLogService;
+import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import com.example.ezpay.shared.common.enums.OutboxStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 디스패처
+ * 1. 짧은 트랜잭션에서 처리 가능한 이벤트를 SKIP LOCKED 로 점유(PROCESSING + lease)
+ * 2. 전용 스레드 풀에서 트랜잭션 밖으로 핸들러 실행
+ * 3. 이벤트별 짧은 트랜잭션으로 DONE / 재시도 예약 / FAILED 기록
+ * 처리 도중 인스턴스가 죽으면 lease 만료 후 다른 디스패처가 다시 점유한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final List<OutboxStatus> CLAIMABLE_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.PROCESSING);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ErrorLogService errorLogService;
+    private final Map<String, OutboxEventHandler> handlers;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${ezpay.outbox.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ezpay.outbox.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${ezpay.outbox.dispatcher.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${ezpay.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${ezpay.outbox.base-backoff-ms:1000}")
+    private long baseBackoffMs;
+
+    @Value("${ezpay.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${ezpay.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            ErrorLogService errorLogService,
+                            List<OutboxEventHandler> handlers,
+                            @Value("${ezpay.outbox.dispatcher.threads:4}") int threads) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.errorLogService = errorLogService;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+
+        // 전용 풀은 빈으로 등록하지 않음 (등록하면 스프링 기본 applicationTaskExecutor 가 생성되지 않음)
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setThreadNamePrefix("outbox-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.setAwaitTerminationSeconds(30);
+        this.executor.initialize();
+    }
+
+    @Scheduled(fixedDelayString = "${ezpay.outbox.dispatcher.poll-interval-ms:500}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        List<OutboxEvent> claimed;
+        do {
+            claimed = claim();
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            CompletableFuture.allOf(claimed.stream()
+                            .map(event -> CompletableFuture.runAsync(() -> process(event), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } while (claimed.size() == batchSize);
+    }
+
+    // 처리 완료 후 보존 기간이 지난 이벤트 정리
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(OutboxStatus.DONE, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("처리 완료 아웃박스 이벤트 정리: {}건", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private List<OutboxEvent> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(CLAIMABLE_STATUSES, now, PageRequest.of(0, batchSize));
+            events.forEach(event -> event.claim(now.plusNanos(leaseMs * 1_000_000)));
+            return events;
+        });
+    }
+
+    private void process(OutboxEvent event) {
+        try {
+            OutboxEventHandler handler = handlers.get(event.getEventType());
+            if (handler == null) {
+                throw new IllegalStateException("등록된 아웃박스 핸들러가 없습니다: " + event.getEventType());
+            }
+            handler.handle(event);
+            update(event.getId(), OutboxEvent::markDone);
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (event.getAttempts() >= maxAttempts) {
+                log.error("아웃박스 이벤트 처리 실패(재시도 한도 초과): id={}, type={}, {}", event.getId(), event.getEventType(), error);
+                update(event.getId(), outbox -> outbox.markFailed(error));
+                errorLogService.logError("Outbox", event.getEventType() + " 처리 실패: " + error, ErrorLogStatus.UNRESOLVED);
+            } else {
+                log.warn("아웃박스 이벤트 처리 실패, 재시도 예약: id={}, type={}, attempt={}, {}",
+                        event.getId(), event.getEventType(), event.getAttempts(), error);
+                update(event.getId(), outbox -> outbox.markRetry(LocalDateTime.now().plusNanos(backoffMs(event.getAttempts()) * 1_000_000), error));
+            }
+        }
+    }
+
+    private long backoffMs(int attempts) {
+        return Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempts - 1, 20));
+    }
+
+    private void update(Long id, Consumer<OutboxEvent> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(id).ifPresent(change));
+    }
+}
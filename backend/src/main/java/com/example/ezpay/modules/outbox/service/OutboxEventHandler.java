@@ -0,0 +1,15 @@
+package com.example.ezpay.modules.outbox.service;
+
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 타입별 후처리 핸들러
+ * 디스패처는 at-least-once 로 호출하므로 중복 실행되어도 문제가 없도록 구현해야 한다.
+ * 예외를 던지면 백오프 후 재시도되고, 재시도 한도를 넘으면 FAILED 로 남는다.
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,32 @@
+package com.example.ezpay.modules.outbox.service;
+
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+import com.example.ezpay.modules.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 업무 트랜잭션 안에서 아웃박스 이벤트를 기록 (트랜잭션이 롤백되면 이벤트도 함께 사라짐)
+@Service
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, String aggregateId, Object payload) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .aggregateId(aggregateId)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BulkTransferInfo {
+    private String bulkRequestId;
+    private Long fromAccountId;
+    private String status;
+    private BigDecimal totalAmount;
+    private BigDecimal refundedAmount;
+    private int itemCount;
+    private int creditedCount;
+    private int failedCount;
+    private int pendingCount;
+    private double progressPercent;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
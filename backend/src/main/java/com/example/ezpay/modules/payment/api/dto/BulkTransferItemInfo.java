@@ -0,0 +1,20 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BulkTransferItemInfo {
+    private int itemNo;
+    private Long toAccountId;
+    private BigDecimal amount;
+    private String memo;
+    private String category;
+    private String status;
+    private String failureReason;
+    private LocalDateTime processedAt;
+}
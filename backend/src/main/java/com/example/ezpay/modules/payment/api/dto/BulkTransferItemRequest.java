@@ -0,0 +1,24 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransferItemRequest {
+    @NotNull(message = "입금 계좌를 선택해주세요.")
+    private Long toAccountId;
+
+    @NotNull(message = "송금 금액을 입력해주세요.")
+    @DecimalMin(value = "0.01", message = "송금 금액은 0보다 커야 합니다.")
+    private BigDecimal amount;
+
+    private String memo;
+    private String category;
+}
@@ -0,0 +1,23 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkTransferRequest {
+    @NotNull(message = "출금 계좌를 선택해주세요.")
+    private Long fromAccountId;
+
+    // 재요청 시 같은 값을 보내면 중복 출금 없이 기존 요청을 반환 (없으면 서버에서 생성)
+    @Size(max = 40, message = "bulkRequestId는 40자 이하여야 합니다.")
+    private String bulkRequestId;
+
+    @NotEmpty(message = "송금 목록이 비어있습니다.")
+    @Valid
+    private List<BulkTransferItemRequest> items;
+}
@@ -0,0 +1,17 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class HotAccountInfo {
+    private Long accountId;
+    private boolean hotAccount;
+    private int slotCount;
+    private BigDecimal consolidatedBalance; // accounts.balance
+    private BigDecimal pendingBalance;      // 아직 합산되지 않은 슬롯 잔액
+    private BigDecimal totalBalance;
+}
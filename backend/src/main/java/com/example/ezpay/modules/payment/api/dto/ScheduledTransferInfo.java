@@ -0,0 +1,28 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ScheduledTransferInfo {
+    private Long scheduleId;
+    private Long fromAccountId;
+    private Long toAccountId;
+    private BigDecimal amount;
+    private String memo;
+    private String category;
+    private String frequency;
+    private String status;
+    private LocalDateTime firstRunAt;
+    private LocalDateTime endAt;
+    private Integer maxRuns;
+    private int runCount;
+    private LocalDateTime nextRunAt;
+    private String lastRequestId;
+    private LocalDateTime lastRunAt;
+    private String lastError;
+}
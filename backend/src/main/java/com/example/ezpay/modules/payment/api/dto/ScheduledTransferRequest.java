@@ -0,0 +1,39 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import com.example.ezpay.shared.common.enums.ScheduleFrequency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class ScheduledTransferRequest {
+    @NotNull(message = "출금 계좌를 선택해주세요.")
+    private Long fromAccountId;
+
+    @NotNull(message = "입금 계좌를 선택해주세요.")
+    private Long toAccountId;
+
+    @NotNull(message = "송금 금액을 입력해주세요.")
+    @DecimalMin(value = "0.01", message = "송금 금액은 0보다 커야 합니다.")
+    private BigDecimal amount;
+
+    private String memo;
+    private String category;
+
+    @NotNull(message = "반복 주기를 선택해주세요.")
+    private ScheduleFrequency frequency;
+
+    @NotNull(message = "첫 송금 시각을 입력해주세요.")
+    @Future(message = "첫 송금 시각은 현재 이후여야 합니다.")
+    private LocalDateTime firstRunAt;
+
+    private LocalDateTime endAt;
+
+    @Min(value = 1, message = "최대 실행 횟수는 1 이상이어야 합니다.")
+    private Integer maxRuns;
+}
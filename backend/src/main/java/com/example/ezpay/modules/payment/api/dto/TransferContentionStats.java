@@ -0,0 +1,19 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TransferContentionStats {
+    private String concurrencyMode;
+    private long transactions;        // 성공적으로 커밋된 송금/취소 트랜잭션 수
+    private long attempts;            // 트랜잭션 시도 수 (재시도 포함)
+    private long optimisticConflicts; // 버전 충돌 횟수
+    private long retriesExhausted;    // 재시도 한도 초과로 실패한 수
+    private double conflictRate;      // optimisticConflicts / attempts
+    private long lockAcquisitions;    // 비관적 락 획득 횟수
+    private double avgLockWaitMillis;
+    private double maxLockWaitMillis;
+    private double avgBackoffMillis;
+}
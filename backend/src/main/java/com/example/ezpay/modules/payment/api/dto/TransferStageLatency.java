@@ -0,0 +1,17 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 구간별 지연 시간 (백분위는 최근 샘플 기준, 단위 ms)
+@Getter
+@AllArgsConstructor
+public class TransferStageLatency {
+    private String stage;
+    private long count;
+    private double avgMs;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maxMs;
+}
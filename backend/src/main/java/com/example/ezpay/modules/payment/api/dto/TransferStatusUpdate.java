@@ -0,0 +1,19 @@
+package com.example.ezpay.modules.payment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 사용자별 송금 상태 SSE(transfer-status:{userId})로 전송하는 처리 결과
+@Getter
+@AllArgsConstructor
+public class TransferStatusUpdate {
+    private String requestId;
+    private Long transactionId;
+    private String status;      // SUCCESS, FAILED
+    private String description; // 실패 사유 등
+    private BigDecimal amount;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,230 @@
+package com.example.ezpay.modules.payment.internal.engine;
+
+import com.example.ezpay.modules.kafka.service.FailedEventLogService;
+import com.example.ezpay.modules.payment.internal.engine.TransferJournal.PendingTransfer;
+import com.example.ezpay.modules.payment.internal.service.TransactionService;
+import com.example.ezpay.shared.exception.TransferQueueFullException;
+import com.example.ezpay.shared.messaging.TransferEventPublisher;
+import com.example.ezpay.shared.messaging.events.TransferEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kafka 없이 동작하는 인프로세스 송금 엔진 (ezpay.kafka.enabled=false)
+ * - 송금 계좌 ID 로 고정 개수의 단일 스레드 파티션을 골라 같은 계좌의 요청은 순서대로, 서로 다른 계좌는 병렬로 처리
+ * - 파티션별 대기 건수를 제한하고, 가득 차면 잠시 기다린 뒤 TransferQueueFullException(503)으로 거절
+ * - 접수 건은 로컬 저널에 기록해 큐에 넣고 그룹 커밋(fsync) 후 응답하므로, 재시작 시 미처리 건을 다시 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ezpay.kafka.enabled", havingValue = "false")
+public class InProcessTransferEngine implements TransferEventPublisher {
+
+    private static final String FAILED_EVENT_TOPIC = "in-process.transfer-events";
+
+    private final TransactionService transactionService;
+    private final FailedEventLogService failedEventLogService;
+    private final TransferJournal journal;
+    private final int partitionCount;
+    private final int queueCapacity;
+    private final long offerTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Partition> partitions = new ArrayList<>();
+    private volatile boolean running;
+
+    public InProcessTransferEngine(@Lazy TransactionService transactionService,
+                                   FailedEventLogService failedEventLogService,
+                                   ObjectMapper objectMapper,
+                                   @Value("${ezpay.payment.engine.partitions:8}") int partitionCount,
+                                   @Value("${ezpay.payment.engine.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${ezpay.payment.engine.offer-timeout-ms:50}") long offerTimeoutMs,
+                                   @Value("${ezpay.payment.engine.max-attempts:3}") int maxAttempts,
+                                   @Value("${ezpay.payment.engine.retry-backoff-ms:200}") long retryBackoffMs,
+                                   @Value("${ezpay.payment.engine.journal.path:./data/transfer-journal.log}") String journalPath,
+                                   @Value("${ezpay.payment.engine.journal.fsync:true}") boolean fsync,
+                                   @Value("${ezpay.payment.engine.journal.compact-threshold:10000}") int compactThreshold) {
+        this.transactionService = transactionService;
+        this.failedEventLogService = failedEventLogService;
+        this.partitionCount = Math.max(1, partitionCount);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.journal = new TransferJournal(Path.of(journalPath), fsync, Math.max(1, compactThreshold), objectMapper);
+    }
+
+    // 저널 복구 건을 먼저 큐에 넣어 두고, 워커는 애플리케이션 준비 완료 후 시작
+    @PostConstruct
+    public void recover() throws IOException {
+        List<PendingTransfer> recovered = journal.recover(sequence.get());
+        sequence.addAndGet(recovered.size());
+
+        List<List<PendingTransfer>> recoveredByPartition = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            recoveredByPartition.add(new ArrayList<>());
+        }
+        for (PendingTransfer transfer : recovered) {
+            recoveredByPartition.get(partitionIndex(transfer.event())).add(transfer);
+        }
+
+        for (int i = 0; i < partitionCount; i++) {
+            List<PendingTransfer> backlog = recoveredByPartition.get(i);
+            // 복구 건은 용량 제한 없이 넣고, 그만큼 신규 접수 허용량을 줄임 (음수 허용)
+            Partition partition = new Partition(i, new Semaphore(queueCapacity - backlog.size()));
+            partition.queue.addAll(backlog);
+            partitions.add(partition);
+        }
+
+        if (!recovered.isEmpty()) {
+            log.info("송금 저널에서 미처리 요청 {}건 복구", recovered.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (Partition partition : partitions) {
+            Thread worker = new Thread(() -> runWorker(partition), "transfer-engine-" + partition.index);
+            partition.worker = worker;
+            worker.start();
+        }
+        log.info("인프로세스 송금 엔진 시작: partitions={}, queueCapacity={}", partitionCount, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Partition partition : partitions) {
+            if (partition.worker == null) {
+                continue;
+            }
+            try {
+                partition.worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 처리하지 못한 건은 저널에 남아 다음 기동 시 복구됨
+        log.info("인프로세스 송금 엔진 종료: 미처리 {}건", journal.pendingCount());
+        journal.close();
+    }
+
+    @Override
+    public void sendTransferEvent(TransferEvent event) {
+        Partition partition = partitions.get(partitionIndex(event));
+
+        boolean acquired;
+        try {
+            acquired = partition.permits.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new TransferQueueFullException("송금 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long ticket;
+        try {
+            // 같은 파티션 안에서 저널 기록 순서와 큐 순서를 일치시킴
+            synchronized (partition) {
+                PendingTransfer transfer = new PendingTransfer(sequence.incrementAndGet(), event, System.currentTimeMillis());
+                ticket = journal.append(transfer);
+                partition.queue.add(transfer);
+            }
+        } catch (RuntimeException e) {
+            partition.permits.release();
+            throw e;
+        }
+
+        // 파티션 잠금 밖에서 그룹 커밋을 기다려 여러 요청의 fsync 를 한 번으로 묶고, force 된 뒤에 접수 응답
+        // (force 실패 시 큐에 들어간 건은 그대로 처리되며, 재요청은 requestId 로 멱등 처리됨)
+        journal.awaitDurable(ticket);
+    }
+
+    private void runWorker(Partition partition) {
+        while (running) {
+            PendingTransfer transfer;
+            try {
+                transfer = partition.queue.poll(200, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (transfer == null) {
+                continue;
+            }
+            partition.permits.release();
+            process(transfer);
+        }
+    }
+
+    private void process(PendingTransfer transfer) {
+        TransferEvent event = transfer.event();
+        transactionService.recordQueueDwell(transfer.acceptedAt());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionService.processTransfer(event);
+                journal.completed(event.getRequestId());
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("송금 처리 최종 실패: requestId={}, attempts={}", event.getRequestId(), attempt, e);
+                    failedEventLogService.saveFailedEvent(FAILED_EVENT_TOPIC, event.getRequestId(), event, e.getMessage());
+                    journal.completed(event.getRequestId());
+                    return;
+                }
+                if (!running) {
+                    // 종료 중이면 저널에 남겨 두고 다음 기동 시 재처리
+                    return;
+                }
+                log.warn("송금 처리 실패, 재시도 {}/{}: requestId={}, error={}", attempt, maxAttempts, event.getRequestId(), e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private int partitionIndex(TransferEvent event) {
+        Long accountId = event.getFromAccountId();
+        return accountId == null ? 0 : Math.floorMod(Long.hashCode(accountId), partitionCount);
+    }
+
+    private static final class Partition {
+        private final int index;
+        private final Semaphore permits;
+        private final BlockingQueue<PendingTransfer> queue = new LinkedBlockingQueue<>();
+        private Thread worker;
+
+        private Partition(int index, Semaphore permits) {
+            this.index = index;
+            this.permits = permits;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.ezpay.modules.payment.internal.engine;
+
+import com.example.ezpay.shared.messaging.events.TransferEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인프로세스 송금 엔진의 로컬 저널 (append-only, JSON Lines)
+ * - 접수(ACCEPTED) 기록은 append 후 그룹 커밋으로 fsync 한다. 먼저 대기한 스레드가 그때까지 기록된 줄을 한 번에 force 하고,
+ *   나머지는 그 결과를 공유하므로 동시 접수가 많아도 force 는 배치당 한 번만 일어난다.
+ * - 처리가 끝나면 COMPLETED 를 남긴다.
+ * - 재시작 시 COMPLETED 가 없는 접수 건을 순서대로 복구한다. (processTransfer 가 requestId 로 멱등이므로 중복 재처리는 안전)
+ * - COMPLETED 가 일정 건수 쌓이면 미처리 건만 남기도록 파일을 다시 쓴다.
+ */
+@Slf4j
+class TransferJournal {
+
+    private static final String ACCEPTED = "ACCEPTED";
+    private static final String COMPLETED = "COMPLETED";
+
+    private final Path path;
+    private final boolean fsync;
+    private final int compactThreshold;
+    private final ObjectMapper objectMapper;
+
+    // 저널에 남아 있는 미처리 건 (압축 시 이 목록만 다시 기록)
+    private final Map<String, PendingTransfer> pending = new HashMap<>();
+    private FileChannel channel;
+    private int completedSinceCompaction;
+
+    // 그룹 커밋: 기록한 ACCEPTED 줄 번호(writtenSeq)와 디스크에 반영된 번호(durableSeq)
+    private final Object forceLock = new Object();
+    private final AtomicLong durableSeq = new AtomicLong();
+    private long writtenSeq;
+
+    TransferJournal(Path path, boolean fsync, int compactThreshold, ObjectMapper objectMapper) {
+        this.path = path;
+        this.fsync = fsync;
+        this.compactThreshold = compactThreshold;
+        this.objectMapper = objectMapper;
+    }
+
+    // 기존 저널을 읽어 미처리 건을 반환하고, 미처리 건만 남긴 새 파일로 교체한 뒤 쓰기 모드로 연다.
+    synchronized List<PendingTransfer> recover(long firstSequence) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Map<String, JournalRecord> accepted = new LinkedHashMap<>();
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    JournalRecord record;
+                    try {
+                        record = objectMapper.readValue(line, JournalRecord.class);
+                    } catch (IOException e) {
+                        // 기록 도중 종료되어 잘린 마지막 줄 등은 건너뜀 (fsync 전이므로 요청자에게 접수 응답이 나가지 않은 건)
+                        log.warn("송금 저널 {}번째 줄을 읽을 수 없어 건너뜁니다: {}", lineNumber, e.getMessage());
+                        continue;
+                    }
+                    if (ACCEPTED.equals(record.type())) {
+                        accepted.put(record.requestId(), record);
+                    } else if (COMPLETED.equals(record.type())) {
+                        accepted.remove(record.requestId());
+                    }
+                }
+            }
+        }
+
+        long sequence = firstSequence;
+        for (JournalRecord record : accepted.values()) {
+            pending.put(record.requestId(), new PendingTransfer(sequence++, record.event(), record.acceptedAt()));
+        }
+        rewrite();
+
+        return pending.values().stream()
+                .sorted(Comparator.comparingLong(PendingTransfer::sequence))
+                .toList();
+    }
+
+    // 접수 기록을 append 만 하고 번호를 반환 (fsync 는 awaitDurable 에서 배치로 처리)
+    synchronized long append(PendingTransfer transfer) {
+        TransferEvent event = transfer.event();
+        write(new JournalRecord(ACCEPTED, event.getRequestId(), transfer.acceptedAt(), event), false);
+        pending.put(event.getRequestId(), transfer);
+        return ++writtenSeq;
+    }
+
+    // ticket 까지의 기록이 디스크에 반영될 때까지 대기. 먼저 들어온 스레드가 그때까지 쌓인 기록을 한 번에 force 한다.
+    void awaitDurable(long ticket) {
+        if (!fsync) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (durableSeq.get() >= ticket) {
+                return;
+            }
+            long upTo;
+            FileChannel target;
+            synchronized (this) {
+                upTo = writtenSeq;
+                target = channel;
+            }
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // 그 사이 압축(rewrite)으로 파일이 교체된 경우: 새 파일은 force 된 상태이므로 durableSeq 가 이미 갱신됨
+                if (durableSeq.get() < ticket) {
+                    throw new UncheckedIOException("송금 저널 기록 실패", e);
+                }
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException("송금 저널 기록 실패", e);
+            }
+            durableSeq.accumulateAndGet(upTo, Math::max);
+        }
+    }
+
+    // 완료 기록은 fsync 하지 않음 (유실되어도 재시작 시 멱등 재처리로 끝남)
+    synchronized void completed(String requestId) {
+        if (pending.remove(requestId) == null) {
+            return;
+        }
+        write(new JournalRecord(COMPLETED, requestId, System.currentTimeMillis(), null), false);
+
+        if (++completedSinceCompaction >= compactThreshold) {
+            try {
+                rewrite();
+            } catch (IOException e) {
+                log.error("송금 저널 압축 실패 (기존 파일에 계속 기록): {}", e.getMessage());
+            }
+        }
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("송금 저널 닫기 실패: {}", e.getMessage());
+        }
+        channel = null;
+    }
+
+    // 미처리 건만 임시 파일에 기록한 뒤 원자적으로 교체
+    private void rewrite() throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (PendingTransfer transfer : pending.values().stream().sorted(Comparator.comparingLong(PendingTransfer::sequence)).toList()) {
+                TransferEvent event = transfer.event();
+                writeLine(out, new JournalRecord(ACCEPTED, event.getRequestId(), transfer.acceptedAt(), event));
+            }
+            out.force(true);
+        }
+        // 미처리 ACCEPTED 는 모두 새 파일에 force 되었으므로 지금까지의 기록은 디스크에 반영된 것으로 봄
+        durableSeq.accumulateAndGet(writtenSeq, Math::max);
+
+        if (channel != null) {
+            channel.close();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        completedSinceCompaction = 0;
+    }
+
+    private void write(JournalRecord record, boolean force) {
+        try {
+            writeLine(channel, record);
+            if (force) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("송금 저널 기록 실패", e);
+        }
+    }
+
+    private void writeLine(FileChannel target, JournalRecord record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    record PendingTransfer(long sequence, TransferEvent event, long acceptedAt) {
+    }
+
+    record JournalRecord(String type, String requestId, long acceptedAt, TransferEvent event) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.ezpay.modules.payment.internal.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// 핫 계좌의 입금 분산용 하위 잔액 슬롯 (계좌 잔액 = accounts.balance + 슬롯 잔액 합계)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "account_balance_slots",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_balance_slots_account_slot", columnNames = {"accountId", "slotNo"})
+        }
+)
+public class AccountBalanceSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private int slotNo;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal balance;
+
+    @Builder
+    public AccountBalanceSlot(Long accountId, int slotNo, BigDecimal balance) {
+        this.accountId = accountId;
+        this.slotNo = slotNo;
+        this.balance = balance;
+    }
+}
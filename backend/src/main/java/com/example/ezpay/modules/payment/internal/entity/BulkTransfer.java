@@ -0,0 +1,95 @@
+package com.example.ezpay.modules.payment.internal.entity;
+
+import com.example.ezpay.shared.common.enums.BulkTransferStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 대량 송금(급여 지급 등) 요청 단위 - 출금은 1회, 입금은 BulkTransferItem 단위로 청크 처리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "bulk_transfers",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bulk_transfers_bulk_request_id", columnNames = "bulkRequestId")
+        },
+        indexes = {
+                @Index(name = "idx_bulk_transfers_status_lease", columnList = "status, leaseUntil")
+        }
+)
+public class BulkTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String bulkRequestId;
+
+    @Column(nullable = false)
+    private Long senderAccountId;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private int itemCount;
+
+    @Column(nullable = false)
+    private int creditedCount;
+
+    @Column(nullable = false)
+    private int failedCount;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal refundedAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private BulkTransferStatus status;
+
+    // 입금 처리 워커의 점유 만료 시각 (만료되면 재개 작업이 다시 가져감)
+    private LocalDateTime leaseUntil;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    public BulkTransfer(String bulkRequestId, Long senderAccountId, BigDecimal totalAmount, int itemCount) {
+        this.bulkRequestId = bulkRequestId;
+        this.senderAccountId = senderAccountId;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.creditedCount = 0;
+        this.failedCount = 0;
+        this.refundedAmount = BigDecimal.ZERO;
+        this.status = BulkTransferStatus.PROCESSING;
+    }
+
+    public void recordChunk(int credited, int failed, BigDecimal refunded, LocalDateTime leaseUntil) {
+        this.creditedCount += credited;
+        this.failedCount += failed;
+        this.refundedAmount = this.refundedAmount.add(refunded);
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void complete() {
+        this.status = failedCount > 0 ? BulkTransferStatus.PARTIALLY_COMPLETED : BulkTransferStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.leaseUntil = null;
+    }
+
+    public int getPendingCount() {
+        return itemCount - creditedCount - failedCount;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ezpay.modules.payment.internal.entity;
+
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 대량 송금 개별 건 (생성/상태 변경은 BulkTransferProcessor 에서 JDBC 배치로 처리)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "bulk_transfer_items",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bulk_transfer_items_bulk_item", columnNames = {"bulkTransferId", "itemNo"})
+        },
+        indexes = {
+                @Index(name = "idx_bulk_transfer_items_bulk_status", columnList = "bulkTransferId, status")
+        }
+)
+public class BulkTransferItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long bulkTransferId;
+
+    @Column(nullable = false)
+    private int itemNo;
+
+    @Column(nullable = false)
+    private Long receiverAccountId;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal amount;
+
+    private String memo;
+
+    private String category;
+
+    // PROCESSING(입금 대기) -> SUCCESS / FAILED
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionStatus status;
+
+    private String failureReason;
+
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,56 @@
+package com.example.ezpay.modules.payment.internal.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 계좌별/일자별 누적 송금액 카운터 (일일 한도 검사를 SUM 집계 대신 단건 조회로 처리)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "daily_transfer_spends",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_daily_transfer_spends_account_date", columnNames = {"accountId", "spendDate"})
+        }
+)
+public class DailyTransferSpend {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private LocalDate spendDate;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal amount;
+
+    // 인메모리 캐시 갱신 순서를 판단하는 기준으로도 사용한다.
+    @Version
+    private Long version;
+
+    @Builder
+    public DailyTransferSpend(Long accountId, LocalDate spendDate, BigDecimal amount) {
+        this.accountId = accountId;
+        this.spendDate = spendDate;
+        this.amount = amount;
+    }
+
+    public void add(BigDecimal delta) {
+        this.amount = this.amount.add(delta);
+    }
+
+    public void subtract(BigDecimal delta) {
+        BigDecimal result = this.amount.subtract(delta);
+        this.amount = result.compareTo(BigDecimal.ZERO) > 0 ? result : BigDecimal.ZERO;
+    }
+}
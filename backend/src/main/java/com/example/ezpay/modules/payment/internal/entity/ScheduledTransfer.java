@@ -0,0 +1,166 @@
+package com.example.ezpay.modules.payment.internal.entity;
+
+import com.example.ezpay.modules.payment.api.dto.TransferRequest;
+import com.example.ezpay.shared.common.enums.ScheduleFrequency;
+import com.example.ezpay.shared.common.enums.ScheduledTransferStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 예약/반복 송금 - 실행 시각이 가까워지면 ScheduledTransferRunner 가 lease 로 점유해 메모리 타이밍 휠에 올린다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "scheduled_transfers",
+        indexes = {
+                @Index(name = "idx_scheduled_transfers_status_next_run", columnList = "status, nextRunAt"),
+                @Index(name = "idx_scheduled_transfers_user", columnList = "userId")
+        }
+)
+public class ScheduledTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long senderAccountId;
+
+    @Column(nullable = false)
+    private Long receiverAccountId;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal amount;
+
+    private String memo;
+
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduleFrequency frequency;
+
+    @Column(nullable = false)
+    private LocalDateTime firstRunAt;
+
+    // 이 시각 이후 회차는 실행하지 않음 (null 이면 제한 없음)
+    private LocalDateTime endAt;
+
+    // 최대 실행 횟수 (null 이면 제한 없음)
+    private Integer maxRuns;
+
+    // 실행(또는 건너뛴) 회차 수 = 다음 회차 번호
+    @Column(nullable = false)
+    private int runCount;
+
+    private LocalDateTime nextRunAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduledTransferStatus status;
+
+    @Column(length = 64)
+    private String lastRequestId;
+
+    private LocalDateTime lastRunAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 타이밍 휠에 올린 인스턴스와 점유 만료 시각 (만료되면 다른 인스턴스가 다시 가져감)
+    @Column(length = 40)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ScheduledTransfer(Long userId, Long senderAccountId, Long receiverAccountId, BigDecimal amount, String memo,
+                             String category, ScheduleFrequency frequency, LocalDateTime firstRunAt,
+                             LocalDateTime endAt, Integer maxRuns) {
+        this.userId = userId;
+        this.senderAccountId = senderAccountId;
+        this.receiverAccountId = receiverAccountId;
+        this.amount = amount;
+        this.memo = memo;
+        this.category = category;
+        this.frequency = frequency;
+        this.firstRunAt = firstRunAt;
+        this.endAt = endAt;
+        this.maxRuns = maxRuns;
+        this.runCount = 0;
+        this.nextRunAt = firstRunAt;
+        this.status = ScheduledTransferStatus.ACTIVE;
+    }
+
+    // 회차별 송금 requestId - 같은 회차를 여러 번 발행해도 송금은 한 번만 처리됨
+    public String requestIdFor(int runIndex) {
+        return "sched-" + id + "-" + runIndex;
+    }
+
+    public boolean isClaimedFor(String owner, int runIndex) {
+        return status == ScheduledTransferStatus.ACTIVE && owner.equals(leaseOwner) && runCount == runIndex;
+    }
+
+    public TransferRequest toTransferRequest() {
+        TransferRequest request = new TransferRequest();
+        request.setFromAccountId(senderAccountId);
+        request.setToAccountId(receiverAccountId);
+        request.setAmount(amount);
+        request.setMemo(memo);
+        request.setCategory(category);
+        request.setCategoryManuallyEdited(category != null);
+        return request;
+    }
+
+    public void recordRun(String requestId, LocalDateTime firedAt) {
+        this.lastRequestId = requestId;
+        this.lastRunAt = firedAt;
+        this.lastError = null;
+        advance();
+    }
+
+    // 발행 자체가 거절된 회차(계좌 삭제 등)는 건너뛰고 다음 회차로 진행
+    public void recordFailure(String requestId, LocalDateTime firedAt, String error) {
+        this.lastRequestId = requestId;
+        this.lastRunAt = firedAt;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        advance();
+    }
+
+    public void cancel() {
+        this.status = ScheduledTransferStatus.CANCELLED;
+        this.nextRunAt = null;
+        releaseLease();
+    }
+
+    private void advance() {
+        this.runCount++;
+        LocalDateTime next = frequency.runAt(firstRunAt, runCount);
+        if (next == null || (maxRuns != null && runCount >= maxRuns) || (endAt != null && next.isAfter(endAt))) {
+            this.status = ScheduledTransferStatus.COMPLETED;
+            this.nextRunAt = null;
+        } else {
+            this.nextRunAt = next;
+        }
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ezpay.modules.payment.internal.outbox;
+
+import com.example.ezpay.modules.notification.internal.service.NotificationPreferenceCache;
+import com.example.ezpay.modules.notification.internal.service.NotificationService;
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+import com.example.ezpay.modules.outbox.service.OutboxEventHandler;
+import com.example.ezpay.modules.payment.internal.service.TransferLatencyMetrics;
+import com.example.ezpay.shared.common.enums.TransferStage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 송금 완료 메일 발송 (이메일 알림 설정이 켜진 사용자만)
+@Component
+@RequiredArgsConstructor
+public class TransferMailHandler implements OutboxEventHandler {
+
+    private final NotificationService notificationService;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final ObjectMapper objectMapper;
+    private final TransferLatencyMetrics latencyMetrics;
+
+    @Override
+    public String eventType() {
+        return TransferOutboxEvents.MAIL;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        TransferOutboxPayload payload = objectMapper.readValue(event.getPayload(), TransferOutboxPayload.class);
+
+        if (!notificationPreferenceCache.isEmailEnabled(payload.getSenderUserId())) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        notificationService.sendMail(
+                payload.getSenderEmail(),
+                payload.getAmount().longValue(),
+                payload.getReceiverName()
+        );
+        latencyMetrics.record(TransferStage.SIDE_EFFECTS, System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.ezpay.modules.payment.internal.outbox;
+
+// 송금 후처리 아웃박스 이벤트 타입 (핸들러별로 한 행씩 기록해 재시도를 독립적으로 처리)
+public final class TransferOutboxEvents {
+
+    public static final String MAIL = "TRANSFER_MAIL";
+    public static final String TRAINING_DATA = "TRANSFER_TRAINING_DATA";
+    public static final String REALTIME = "TRANSFER_REALTIME";
+
+    private TransferOutboxEvents() {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.ezpay.modules.payment.internal.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 송금 후처리 핸들러가 추가 조회 없이 처리할 수 있도록 필요한 값을 함께 기록
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferOutboxPayload {
+    private Long transactionId;
+    private String requestId;
+    private String status;
+    private BigDecimal amount;
+    private Long senderUserId;
+    private String senderName;
+    private String senderEmail;
+    private Long receiverUserId;
+    private String receiverName;
+    private String memo;
+    private String category;
+    private LocalDateTime occurredAt;
+    private long processingMs;
+}
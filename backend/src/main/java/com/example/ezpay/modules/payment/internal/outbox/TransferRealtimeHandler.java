@@ -0,0 +1,46 @@
+package com.example.ezpay.modules.payment.internal.outbox;
+
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+import com.example.ezpay.modules.outbox.service.OutboxEventHandler;
+import com.example.ezpay.modules.payment.internal.service.TransferLatencyMetrics;
+import com.example.ezpay.modules.realtime.EventBroadcaster;
+import com.example.ezpay.shared.common.enums.TransferStage;
+import com.example.ezpay.shared.messaging.events.RealtimeTransactionEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 관리자 대시보드 실시간 거래 스트림(realtimeApi.ts)으로 송금 결과 전송
+@Component
+@RequiredArgsConstructor
+public class TransferRealtimeHandler implements OutboxEventHandler {
+
+    private static final String TOPIC_TRANSACTIONS = "admin:dashboard:transactions";
+
+    private final EventBroadcaster eventBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final TransferLatencyMetrics latencyMetrics;
+
+    @Override
+    public String eventType() {
+        return TransferOutboxEvents.REALTIME;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        TransferOutboxPayload payload = objectMapper.readValue(event.getPayload(), TransferOutboxPayload.class);
+
+        long startedAt = System.nanoTime();
+        eventBroadcaster.broadcastToTopic(TOPIC_TRANSACTIONS, new RealtimeTransactionEvent(
+                payload.getRequestId(),
+                payload.getOccurredAt(),
+                String.valueOf(payload.getTransactionId()),
+                payload.getSenderName(),
+                payload.getReceiverName(),
+                payload.getAmount(),
+                payload.getStatus(),
+                payload.getProcessingMs()
+        ));
+        latencyMetrics.record(TransferStage.SIDE_EFFECTS, System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ezpay.modules.payment.internal.outbox;
+
+import com.example.ezpay.model.user.TrainingData;
+import com.example.ezpay.modules.outbox.entity.OutboxEvent;
+import com.example.ezpay.modules.outbox.service.OutboxEventHandler;
+import com.example.ezpay.modules.payment.internal.service.TransferLatencyMetrics;
+import com.example.ezpay.repository.user.TrainingDataRepository;
+import com.example.ezpay.repository.user.UserRepository;
+import com.example.ezpay.shared.common.enums.TransferStage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 사용자가 직접 수정한 카테고리를 분류 학습 데이터로 저장
+@Component
+@RequiredArgsConstructor
+public class TransferTrainingDataHandler implements OutboxEventHandler {
+
+    private final TrainingDataRepository trainingDataRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransferLatencyMetrics latencyMetrics;
+
+    @Override
+    public String eventType() {
+        return TransferOutboxEvents.TRAINING_DATA;
+    }
+
+    @Override
+    @Transactional
+    public void handle(OutboxEvent event) throws Exception {
+        TransferOutboxPayload payload = objectMapper.readValue(event.getPayload(), TransferOutboxPayload.class);
+
+        long startedAt = System.nanoTime();
+        TrainingData trainingData = new TrainingData();
+        trainingData.setUser(userRepository.getReferenceById(payload.getSenderUserId()));
+        trainingData.setMemo(payload.getMemo());
+        trainingData.setReceiverName(payload.getReceiverName());
+        trainingData.setCategory(payload.getCategory());
+        trainingDataRepository.save(trainingData);
+        latencyMetrics.recordIncludingCommit(TransferStage.SIDE_EFFECTS, System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ezpay.modules.payment.internal.repository;
+
+import com.example.ezpay.modules.payment.internal.entity.AccountBalanceSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+    List<AccountBalanceSlot> findByAccountId(Long accountId);
+
+    // 슬롯 한 행만 갱신하므로 같은 계좌로의 입금도 슬롯 수만큼 병렬 처리된다.
+    @Modifying
+    @Query("update AccountBalanceSlot s set s.balance = s.balance + :amount where s.accountId = :accountId and s.slotNo = :slotNo")
+    int credit(@Param("accountId") Long accountId, @Param("slotNo") int slotNo, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("update AccountBalanceSlot s set s.balance = 0 where s.accountId = :accountId")
+    int resetBalance(@Param("accountId") Long accountId);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = :accountId")
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    // 아직 계좌 잔액에 합산되지 않은 슬롯 잔액이 있는 계좌 (핫 계좌 해제 직후 남은 입금 포함)
+    @Query("select distinct s.accountId from AccountBalanceSlot s where s.balance <> 0")
+    List<Long> findAccountIdsWithPendingBalance();
+
+    // 계좌 락을 잡은 뒤에만 호출 (계좌 -> 슬롯 순서로 락을 잡아 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceSlot s where s.accountId = :accountId order by s.slotNo")
+    List<AccountBalanceSlot> findByAccountIdForUpdate(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,18 @@
+package com.example.ezpay.modules.payment.internal.repository;
+
+import com.example.ezpay.modules.payment.internal.entity.BulkTransferItem;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface BulkTransferItemRepository extends JpaRepository<BulkTransferItem, Long> {
+
+    List<BulkTransferItem> findByBulkTransferIdAndStatusOrderByIdAsc(Long bulkTransferId, TransactionStatus status, Pageable pageable);
+
+    Page<BulkTransferItem> findByBulkTransferId(Long bulkTransferId, Pageable pageable);
+
+    Page<BulkTransferItem> findByBulkTransferIdAndStatus(Long bulkTransferId, TransactionStatus status, Pageable pageable);
+}
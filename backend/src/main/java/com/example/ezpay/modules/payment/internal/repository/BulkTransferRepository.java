@@ -0,0 +1,36 @@
+package com.example.ezpay.modules.payment.internal.repository;
+
+import com.example.ezpay.modules.payment.internal.entity.BulkTransfer;
+import com.example.ezpay.shared.common.enums.BulkTransferStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BulkTransferRepository extends JpaRepository<BulkTransfer, Long> {
+
+    Optional<BulkTransfer> findByBulkRequestId(String bulkRequestId);
+
+    // 청크 처리 트랜잭션을 대량 송금 단위로 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BulkTransfer b where b.id = :id")
+    Optional<BulkTransfer> findByIdForUpdate(@Param("id") Long id);
+
+    // 점유(lease)가 없거나 만료된 경우에만 워커가 가져감
+    @Modifying
+    @Query("update BulkTransfer b set b.leaseUntil = :leaseUntil " +
+            "where b.id = :id and b.status = :status and (b.leaseUntil is null or b.leaseUntil < :now)")
+    int claim(@Param("id") Long id,
+              @Param("status") BulkTransferStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("select b.id from BulkTransfer b where b.status = :status and (b.leaseUntil is null or b.leaseUntil < :now)")
+    List<Long> findStalledIds(@Param("status") BulkTransferStatus status, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package com.example.ezpay.modules.payment.internal.repository;
+
+import com.example.ezpay.modules.payment.internal.entity.DailyTransferSpend;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface DailyTransferSpendRepository extends JpaRepository<DailyTransferSpend, Long> {
+
+    Optional<DailyTransferSpend> findByAccountIdAndSpendDate(Long accountId, LocalDate spendDate);
+}
@@ -0,0 +1,49 @@
+package com.example.ezpay.modules.payment.internal.repository;
+
+import com.example.ezpay.modules.payment.internal.entity.ScheduledTransfer;
+import com.example.ezpay.shared.common.enums.ScheduledTransferStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+
+    List<ScheduledTransfer> findByUserIdOrderByIdDesc(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ScheduledTransfer s where s.id = :id")
+    Optional<ScheduledTransfer> findByIdForUpdate(@Param("id") Long id);
+
+    // (status, nextRunAt) 인덱스 범위 조회 - 실행 구간 안에서 점유되지 않은 예약만
+    @Query("select s.id from ScheduledTransfer s where s.status = :status and s.nextRunAt < :horizon " +
+            "and (s.leaseUntil is null or s.leaseUntil < :now) order by s.nextRunAt")
+    List<Long> findDueIds(@Param("status") ScheduledTransferStatus status,
+                          @Param("horizon") LocalDateTime horizon,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 점유가 없거나 만료된 예약만 가져감 (여러 인스턴스가 같은 구간을 동시에 읽어도 한 곳만 성공)
+    @Modifying
+    @Query("update ScheduledTransfer s set s.leaseOwner = :owner, s.leaseUntil = :leaseUntil " +
+            "where s.id in :ids and s.status = :status and (s.leaseUntil is null or s.leaseUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("status") ScheduledTransferStatus status,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<ScheduledTransfer> findByLeaseOwnerAndIdIn(String leaseOwner, Collection<Long> ids);
+
+    @Modifying
+    @Query("update ScheduledTransfer s set s.leaseOwner = null, s.leaseUntil = null where s.leaseOwner = :owner")
+    int releaseLeases(@Param("owner") String owner);
+}
@@ -0,0 +1,65 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.modules.payment.api.dto.BulkTransferItemRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 송금 CSV 파싱
+ * 형식: toAccountId,amount[,memo[,category]] (첫 줄이 헤더면 건너뜀, 메모에 쉼표는 사용할 수 없음)
+ */
+public final class BulkTransferCsvParser {
+
+    private BulkTransferCsvParser() {
+    }
+
+    public static List<BulkTransferItemRequest> parse(InputStream inputStream) throws IOException {
+        List<BulkTransferItemRequest> items = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank() || (lineNo == 1 && isHeader(line))) {
+                    continue;
+                }
+                items.add(parseLine(line, lineNo));
+            }
+        }
+        return items;
+    }
+
+    private static boolean isHeader(String line) {
+        String first = line.split(",", -1)[0].trim();
+        return !first.isEmpty() && !Character.isDigit(first.charAt(0));
+    }
+
+    private static BulkTransferItemRequest parseLine(String line, int lineNo) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < 2) {
+            throw new IllegalArgumentException(lineNo + "번째 줄: 입금 계좌와 금액이 필요합니다.");
+        }
+        try {
+            Long toAccountId = Long.parseLong(columns[0].trim());
+            BigDecimal amount = new BigDecimal(columns[1].trim());
+            if (amount.signum() <= 0) {
+                throw new IllegalArgumentException(lineNo + "번째 줄: 송금 금액은 0보다 커야 합니다.");
+            }
+            String memo = columns.length > 2 && !columns[2].isBlank() ? columns[2].trim() : null;
+            String category = columns.length > 3 && !columns[3].isBlank() ? columns[3].trim() : null;
+            return new BulkTransferItemRequest(toAccountId, amount, memo, category);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(lineNo + "번째 줄: 계좌 ID 또는 금액 형식이 올바르지 않습니다.");
+        }
+    }
+}
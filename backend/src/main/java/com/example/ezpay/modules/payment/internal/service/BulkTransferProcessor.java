@@ -0,0 +1,271 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.model.user.Accounts;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupWriter;
+import com.example.ezpay.modules.ledger.entity.LedgerEntryReason;
+import com.example.ezpay.modules.ledger.service.LedgerWriter;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferItemRequest;
+import com.example.ezpay.modules.payment.internal.entity.BulkTransfer;
+import com.example.ezpay.modules.payment.internal.entity.BulkTransferItem;
+import com.example.ezpay.modules.payment.internal.entity.DailyTransferSpend;
+import com.example.ezpay.modules.payment.internal.repository.BulkTransferItemRepository;
+import com.example.ezpay.modules.payment.internal.repository.BulkTransferRepository;
+import com.example.ezpay.repository.user.AccountRepository;
+import com.example.ezpay.service.user.ErrorLogService;
+import com.example.ezpay.shared.common.enums.BulkTransferStatus;
+import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import com.example.ezpay.shared.exception.CustomNotFoundException;
+import com.example.ezpay.shared.persistence.IdSequences;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 대량 송금 입금 처리기
+ * - 출금 계좌 차감은 요청 시점(TransactionServiceImpl.createBulkTransfer)에 1회로 끝나고,
+ *   여기서는 수신 계좌 입금을 청크 단위 트랜잭션 + JDBC 배치로 처리한다.
+ * - 청크마다 [수신 계좌 잔액 증가, 거래 내역 저장, 항목 상태 변경, 진행률 갱신]이 한 트랜잭션으로 커밋되므로
+ *   중간에 중단되어도 PROCESSING 항목부터 이어서 처리하면 된다.
+ * - 워커는 lease 로 대량 송금을 점유하고, 만료된 건은 재개 작업이 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class BulkTransferProcessor {
+
+    private static final String INSERT_ITEM_SQL =
+            "insert into bulk_transfer_items (bulk_transfer_id, item_no, receiver_account_id, amount, memo, category, status) " +
+                    "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String CREDIT_ACCOUNT_SQL =
+            "update accounts set balance = balance + ?, version = version + 1, updated_at = ? where account_id = ?";
+    private static final String LOCK_ACCOUNT_SQL =
+            "select account_id from accounts where account_id = ? for update";
+    private static final String INSERT_TRANSACTION_SQL =
+            "insert into transactions (transaction_id, request_id, sender_account_id, receiver_account_id, amount, status, transaction_date, description, category, memo) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ITEM_SQL =
+            "update bulk_transfer_items set status = ?, failure_reason = ?, processed_at = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkTransferRepository bulkTransferRepository;
+    private final BulkTransferItemRepository bulkTransferItemRepository;
+    private final AccountRepository accountRepository;
+    private final HotAccountBalanceService hotAccountBalanceService;
+    private final DailySpendCounter dailySpendCounter;
+    private final ErrorLogService errorLogService;
+    private final LedgerWriter ledgerWriter;
+    private final DashboardRollupWriter rollupWriter;
+    private final IdSequences idSequences;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${ezpay.payment.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${ezpay.payment.bulk.lease-ms:60000}")
+    private long leaseMs;
+
+    public BulkTransferProcessor(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 BulkTransferRepository bulkTransferRepository,
+                                 BulkTransferItemRepository bulkTransferItemRepository,
+                                 AccountRepository accountRepository,
+                                 HotAccountBalanceService hotAccountBalanceService,
+                                 DailySpendCounter dailySpendCounter,
+                                 ErrorLogService errorLogService,
+                                 LedgerWriter ledgerWriter,
+                                 DashboardRollupWriter rollupWriter,
+                                 IdSequences idSequences,
+                                 @Value("${ezpay.payment.bulk.workers:2}") int workers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkTransferRepository = bulkTransferRepository;
+        this.bulkTransferItemRepository = bulkTransferItemRepository;
+        this.accountRepository = accountRepository;
+        this.hotAccountBalanceService = hotAccountBalanceService;
+        this.dailySpendCounter = dailySpendCounter;
+        this.errorLogService = errorLogService;
+        this.ledgerWriter = ledgerWriter;
+        this.rollupWriter = rollupWriter;
+        this.idSequences = idSequences;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workers);
+        this.executor.setMaxPoolSize(workers);
+        this.executor.setThreadNamePrefix("bulk-transfer-");
+        this.executor.initialize();
+    }
+
+    // 대량 송금 생성 트랜잭션 안에서 항목을 JDBC 배치로 저장
+    public void insertItems(Long bulkTransferId, List<BulkTransferItemRequest> items) {
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BulkTransferItemRequest item = items.get(i);
+            rows.add(new Object[]{bulkTransferId, i + 1, item.getToAccountId(), item.getAmount(),
+                    item.getMemo(), item.getCategory(), TransactionStatus.PROCESSING.name()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, rows);
+    }
+
+    // 생성 트랜잭션 커밋 이후 호출
+    public void submit(Long bulkTransferId) {
+        executor.execute(() -> run(bulkTransferId));
+    }
+
+    // 워커가 중단된(lease 만료) 대량 송금 재개
+    @Scheduled(fixedDelayString = "${ezpay.payment.bulk.resume-interval-ms:30000}")
+    public void resumeStalled() {
+        bulkTransferRepository.findStalledIds(BulkTransferStatus.PROCESSING, LocalDateTime.now())
+                .forEach(this::submit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(Long bulkTransferId) {
+        if (!claim(bulkTransferId)) {
+            return;
+        }
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(bulkTransferId)))) {
+                // 처리할 항목이 남아있는 동안 청크 반복
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    bulkTransferRepository.findByIdForUpdate(bulkTransferId).ifPresent(BulkTransfer::complete));
+        } catch (Exception e) {
+            // lease 가 만료되면 재개 작업이 남은 항목부터 다시 처리
+            log.error("대량 송금 입금 처리 실패: bulkTransferId={}, {}", bulkTransferId, e.getMessage());
+            errorLogService.logError("BulkTransfer", "대량 송금 입금 처리 실패: " + bulkTransferId + " " + e.getMessage(), ErrorLogStatus.UNRESOLVED);
+        }
+    }
+
+    private boolean claim(Long bulkTransferId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                bulkTransferRepository.claim(bulkTransferId, BulkTransferStatus.PROCESSING, now, now.plusNanos(leaseMs * 1_000_000)));
+        return claimed != null && claimed == 1;
+    }
+
+    // 청크 하나를 처리하고, 더 처리할 항목이 있을 수 있으면 true
+    private boolean processChunk(Long bulkTransferId) {
+        BulkTransfer bulk = bulkTransferRepository.findByIdForUpdate(bulkTransferId)
+                .orElseThrow(() -> new CustomNotFoundException("대량 송금을 찾을 수 없습니다. : " + bulkTransferId));
+        List<BulkTransferItem> items = bulkTransferItemRepository.findByBulkTransferIdAndStatusOrderByIdAsc(
+                bulkTransferId, TransactionStatus.PROCESSING, PageRequest.of(0, chunkSize));
+        if (items.isEmpty()) {
+            return false;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 수신 계좌별로 합산 후 계좌 ID 오름차순으로 갱신 (일반 송금과 같은 락 순서)
+        // 환불이 생길 수 있으므로 출금 계좌도 ID 순서상 자기 자리에서 함께 잠근다
+        TreeMap<Long, BigDecimal> credits = new TreeMap<>();
+        for (BulkTransferItem item : items) {
+            credits.merge(item.getReceiverAccountId(), item.getAmount(), BigDecimal::add);
+        }
+        // 핫 계좌는 계좌 행 대신 잔액 슬롯에 입금 (일반 송금과 같이 계좌 행 락을 잡지 않음, 락 순서는 계좌 -> 슬롯)
+        TreeMap<Long, BigDecimal> hotCredits = new TreeMap<>();
+        for (Long hotAccountId : accountRepository.findHotAccountIdsIn(credits.keySet())) {
+            hotCredits.put(hotAccountId, credits.remove(hotAccountId));
+        }
+        Long senderAccountId = bulk.getSenderAccountId();
+        Set<Long> missingAccounts = new HashSet<>();
+        missingAccounts.addAll(creditAccounts(credits.headMap(senderAccountId, false), now));
+        jdbcTemplate.queryForList(LOCK_ACCOUNT_SQL, Long.class, senderAccountId);
+        missingAccounts.addAll(creditAccounts(credits.tailMap(senderAccountId, true), now));
+        hotCredits.forEach(hotAccountBalanceService::creditSlot);
+
+        List<BulkTransferItem> credited = new ArrayList<>(items.size());
+        BigDecimal refund = BigDecimal.ZERO;
+        for (BulkTransferItem item : items) {
+            if (missingAccounts.contains(item.getReceiverAccountId())) {
+                refund = refund.add(item.getAmount());
+            } else {
+                credited.add(item);
+            }
+        }
+
+        if (!credited.isEmpty()) {
+            // 거래 ID 는 JPA 저장과 같은 시퀀스에서 블록 단위로 예약
+            List<Long> transactionIds = idSequences.reserve(IdSequences.TRANSACTIONS, credited.size());
+            List<Object[]> transactionRows = new ArrayList<>(credited.size());
+            for (int i = 0; i < credited.size(); i++) {
+                BulkTransferItem item = credited.get(i);
+                transactionRows.add(new Object[]{transactionIds.get(i), "bulk-" + bulk.getBulkRequestId() + "-" + item.getItemNo(),
+                        bulk.getSenderAccountId(), item.getReceiverAccountId(), item.getAmount(), TransactionStatus.SUCCESS.name(),
+                        now, "대량 송금 완료", item.getCategory(), item.getMemo()});
+            }
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactionRows);
+            // 청크 분개는 커밋 직전 한 번의 배치로 기록됨
+            for (int i = 0; i < credited.size(); i++) {
+                BulkTransferItem item = credited.get(i);
+                ledgerWriter.recordCredit(item.getReceiverAccountId(), bulk.getSenderAccountId(), item.getAmount(), transactionIds.get(i),
+                        "bulk-" + bulk.getBulkRequestId() + "-" + item.getItemNo(), LedgerEntryReason.BULK_TRANSFER);
+                rollupWriter.recordTransaction(now, TransactionStatus.SUCCESS, item.getAmount());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_ITEM_SQL, items, items.size(), (ps, item) -> {
+            boolean failed = missingAccounts.contains(item.getReceiverAccountId());
+            ps.setString(1, (failed ? TransactionStatus.FAILED : TransactionStatus.SUCCESS).name());
+            ps.setString(2, failed ? "계좌를 찾을 수 없습니다." : null);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, item.getId());
+        });
+
+        if (refund.signum() > 0) {
+            refundSender(bulk, refund);
+        }
+
+        bulk.recordChunk(credited.size(), items.size() - credited.size(), refund,
+                LocalDateTime.now().plusNanos(leaseMs * 1_000_000));
+        return items.size() == chunkSize;
+    }
+
+    // 계좌 ID 오름차순 입금, 요청 이후 삭제되어 갱신 건수가 0 인 계좌 ID 반환
+    private List<Long> creditAccounts(SortedMap<Long, BigDecimal> credits, Timestamp now) {
+        if (credits.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<Long, BigDecimal>> creditRows = new ArrayList<>(credits.entrySet());
+        int[][] creditCounts = jdbcTemplate.batchUpdate(CREDIT_ACCOUNT_SQL, creditRows, creditRows.size(), (ps, row) -> {
+            ps.setBigDecimal(1, row.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, row.getKey());
+        });
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < creditRows.size(); i++) {
+            if (creditCounts[0][i] == 0) {
+                missing.add(creditRows.get(i).getKey());
+            }
+        }
+        return missing;
+    }
+
+    // 입금 실패 금액을 출금 계좌로 돌려주고 일일 누적 송금액에서 차감
+    // (출금 계좌 락은 processChunk 에서 ID 순서대로 이미 잡혀 있음)
+    private void refundSender(BulkTransfer bulk, BigDecimal refund) {
+        Accounts sender = accountRepository.findByIdForUpdate(bulk.getSenderAccountId())
+                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        hotAccountBalanceService.credit(sender, refund);
+        accountRepository.save(sender);
+        ledgerWriter.recordCredit(sender.getAccountId(), null, refund, null, bulk.getBulkRequestId(), LedgerEntryReason.BULK_REFUND);
+
+        DailyTransferSpend spend = dailySpendCounter.getCounter(sender.getAccountId(), bulk.getCreatedAt().toLocalDate());
+        dailySpendCounter.subtract(spend, refund);
+    }
+}
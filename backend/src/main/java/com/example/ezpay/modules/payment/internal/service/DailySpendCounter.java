@@ -0,0 +1,119 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.modules.payment.internal.entity.DailyTransferSpend;
+import com.example.ezpay.modules.payment.internal.repository.DailyTransferSpendRepository;
+import com.example.ezpay.repository.user.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계좌별 일일 누적 송금액 카운터
+ * - daily_transfer_spends 테이블이 원본이며, 잔액 변경과 같은 트랜잭션에서 갱신된다.
+ * - 커밋된 값만 인메모리 캐시에 반영하고, 캐시는 버전이 더 높은 값으로만 덮어쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailySpendCounter {
+
+    private final DailyTransferSpendRepository dailyTransferSpendRepository;
+    private final TransactionRepository transactionRepository;
+
+    private final Map<SpendKey, CachedSpend> cache = new ConcurrentHashMap<>();
+
+    // 송금/취소 트랜잭션 안에서 카운터 행을 가져온다.
+    // 행이 없으면 기존 거래 내역 합계로 시드한 뒤 생성한다. (계좌당 하루 1회)
+    // 낙관적 모드처럼 계좌 락 없이 같은 계좌의 첫 송금이 동시에 행을 만들면 늦은 쪽은 유니크 키 충돌이 나는데,
+    // 이를 동시 갱신 충돌로 바꿔 던져 송금 재시도 루프가 트랜잭션을 다시 실행하게 한다. (재시도 시 행이 조회됨)
+    public DailyTransferSpend getCounter(Long accountId, LocalDate date) {
+        return dailyTransferSpendRepository.findByAccountIdAndSpendDate(accountId, date)
+                .orElseGet(() -> createCounter(accountId, date));
+    }
+
+    public void add(DailyTransferSpend counter, BigDecimal amount) {
+        counter.add(amount);
+        dailyTransferSpendRepository.save(counter);
+        publishAfterCommit(counter);
+    }
+
+    public void subtract(DailyTransferSpend counter, BigDecimal amount) {
+        counter.subtract(amount);
+        dailyTransferSpendRepository.save(counter);
+        publishAfterCommit(counter);
+    }
+
+    // 조회 전용 (남은 한도 표시 등) - 캐시 우선, 없으면 DB 단건 조회
+    public BigDecimal getSpent(Long accountId, LocalDate date) {
+        SpendKey key = new SpendKey(accountId, date);
+        CachedSpend cached = cache.get(key);
+        if (cached != null) {
+            return cached.amount();
+        }
+
+        CachedSpend loaded = dailyTransferSpendRepository.findByAccountIdAndSpendDate(accountId, date)
+                .map(spend -> new CachedSpend(spend.getAmount(), spend.getVersion()))
+                .orElseGet(() -> new CachedSpend(sumFromTransactions(accountId, date), -1L));
+        return cache.merge(key, loaded, DailySpendCounter::newer).amount();
+    }
+
+    // 지난 날짜의 캐시 항목 정리
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        cache.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    private DailyTransferSpend createCounter(Long accountId, LocalDate date) {
+        try {
+            return dailyTransferSpendRepository.saveAndFlush(DailyTransferSpend.builder()
+                    .accountId(accountId)
+                    .spendDate(date)
+                    .amount(sumFromTransactions(accountId, date))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException("일일 송금액 카운터 동시 생성: accountId=" + accountId, e);
+        }
+    }
+
+    private void publishAfterCommit(DailyTransferSpend counter) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(counter);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(counter);
+            }
+        });
+    }
+
+    private void publish(DailyTransferSpend counter) {
+        SpendKey key = new SpendKey(counter.getAccountId(), counter.getSpendDate());
+        cache.merge(key, new CachedSpend(counter.getAmount(), counter.getVersion()), DailySpendCounter::newer);
+    }
+
+    private BigDecimal sumFromTransactions(Long accountId, LocalDate date) {
+        BigDecimal total = transactionRepository.sumTodayTransactionBySender(accountId, date);
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
+    private static CachedSpend newer(CachedSpend current, CachedSpend candidate) {
+        return candidate.version() >= current.version() ? candidate : current;
+    }
+
+    private record SpendKey(Long accountId, LocalDate date) {
+    }
+
+    private record CachedSpend(BigDecimal amount, long version) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.model.user.Accounts;
+import com.example.ezpay.modules.payment.api.dto.HotAccountInfo;
+import com.example.ezpay.modules.payment.internal.entity.AccountBalanceSlot;
+import com.example.ezpay.modules.payment.internal.repository.AccountBalanceSlotRepository;
+import com.example.ezpay.repository.user.AccountRepository;
+import com.example.ezpay.shared.exception.CustomNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 핫 계좌(입금이 몰리는 가맹점 계좌 등) 잔액 관리
+ * - 입금: 계좌 행 락 없이 임의의 슬롯 한 행만 UPDATE
+ * - 출금: 계좌 락 보유 상태에서 accounts.balance 에서 차감, 부족하면 슬롯 잔액을 끌어와 차감
+ * - 조회: accounts.balance + 슬롯 잔액 합계
+ * - accounts.balance 는 HotAccountConsolidationScheduler 가 주기적으로 슬롯을 합산한 값
+ * 락 순서는 항상 계좌 -> 슬롯 이며, 슬롯만 잡는 입금은 계좌 락을 기다리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HotAccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Value("${ezpay.payment.hot-account.slots:16}")
+    private int slotCount;
+
+    // 송금 처리 전 수신 계좌 락이 필요한지 판단
+    public boolean isHotAccount(Long accountId) {
+        return accountRepository.findHotAccountFlag(accountId).orElse(false);
+    }
+
+    // 출금 가능 잔액 (호출자가 계좌 락을 보유하고 있어야 정확함)
+    public BigDecimal getAvailableBalance(Accounts account) {
+        if (!account.isHotAccount()) {
+            return account.getBalance();
+        }
+        return account.getBalance().add(accountBalanceSlotRepository.sumBalance(account.getAccountId()));
+    }
+
+    // 입금: 일반 계좌는 잔액 직접 증가(호출자가 락 보유), 핫 계좌는 슬롯 증가(락 불필요)
+    public void credit(Accounts account, BigDecimal amount) {
+        if (!account.isHotAccount()) {
+            account.setBalance(account.getBalance().add(amount));
+            return;
+        }
+
+        creditSlot(account.getAccountId(), amount);
+    }
+
+    // 핫 계좌 입금: 임의의 슬롯 한 행만 증가 (계좌 엔티티 없이 ID 로 입금하는 대량 송금 경로에서도 사용)
+    public void creditSlot(Long accountId, BigDecimal amount) {
+        int slotNo = ThreadLocalRandom.current().nextInt(slotCount);
+        if (accountBalanceSlotRepository.credit(accountId, slotNo, amount) == 0
+                && accountBalanceSlotRepository.credit(accountId, 0, amount) == 0) {
+            // 슬롯 수 설정이 늘어난 경우 등 해당 슬롯이 없으면 항상 존재하는 0번 슬롯으로 보냄
+            throw new IllegalStateException("핫 계좌 잔액 슬롯이 없습니다. : " + accountId);
+        }
+    }
+
+    // 출금: 호출자가 계좌 락을 보유해야 하며, 잔액 검증은 getAvailableBalance 로 미리 수행
+    public void debit(Accounts account, BigDecimal amount) {
+        if (account.isHotAccount() && account.getBalance().compareTo(amount) < 0) {
+            account.setBalance(account.getBalance().add(drainSlots(account.getAccountId())));
+        }
+        account.setBalance(account.getBalance().subtract(amount));
+    }
+
+    // 슬롯 잔액을 accounts.balance 로 합산
+    @Transactional
+    public void consolidate(Long accountId) {
+        Accounts account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+
+        BigDecimal drained = drainSlots(accountId);
+        if (drained.signum() != 0) {
+            account.setBalance(account.getBalance().add(drained));
+            accountRepository.save(account);
+        }
+    }
+
+    public List<Long> getAccountIdsToConsolidate() {
+        return accountBalanceSlotRepository.findAccountIdsWithPendingBalance();
+    }
+
+    // 핫 계좌 지정: 슬롯을 먼저 만든 뒤 플래그를 켜서, 커밋 이후 입금은 항상 슬롯이 존재함
+    @Transactional
+    public HotAccountInfo enable(Long accountId) {
+        Accounts account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+
+        Set<Integer> existingSlots = accountBalanceSlotRepository.findByAccountId(accountId).stream()
+                .map(AccountBalanceSlot::getSlotNo)
+                .collect(Collectors.toSet());
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            if (!existingSlots.contains(slotNo)) {
+                accountBalanceSlotRepository.save(AccountBalanceSlot.builder()
+                        .accountId(accountId)
+                        .slotNo(slotNo)
+                        .balance(BigDecimal.ZERO)
+                        .build());
+            }
+        }
+
+        account.setHotAccount(true);
+        accountRepository.save(account);
+        return toInfo(account);
+    }
+
+    // 핫 계좌 해제: 슬롯을 합산하고 플래그를 끔
+    // 해제 직전에 플래그를 읽은 입금이 슬롯에 남으면 다음 합산 주기에 반영된다.
+    @Transactional
+    public HotAccountInfo disable(Long accountId) {
+        Accounts account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+
+        account.setBalance(account.getBalance().add(drainSlots(accountId)));
+        account.setHotAccount(false);
+        accountRepository.save(account);
+        return toInfo(account);
+    }
+
+    @Transactional(readOnly = true)
+    public HotAccountInfo getHotAccountInfo(Long accountId) {
+        Accounts account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        return toInfo(account);
+    }
+
+    @Transactional(readOnly = true)
+    public List<HotAccountInfo> getHotAccounts() {
+        return accountRepository.findAllById(accountRepository.findHotAccountIds()).stream()
+                .map(this::toInfo)
+                .toList();
+    }
+
+    // 슬롯 행을 락으로 고정한 뒤 합계를 읽고 0으로 초기화
+    // 입금은 벌크 UPDATE 라 영속성 컨텍스트의 슬롯 엔티티가 오래된 값일 수 있으므로 엔티티 값은 사용하지 않는다.
+    private BigDecimal drainSlots(Long accountId) {
+        accountBalanceSlotRepository.findByAccountIdForUpdate(accountId);
+        BigDecimal drained = accountBalanceSlotRepository.sumBalance(accountId);
+        if (drained.signum() != 0) {
+            accountBalanceSlotRepository.resetBalance(accountId);
+        }
+        return drained;
+    }
+
+    private HotAccountInfo toInfo(Accounts account) {
+        BigDecimal pending = accountBalanceSlotRepository.sumBalance(account.getAccountId());
+        int slots = account.isHotAccount() ? accountBalanceSlotRepository.findByAccountId(account.getAccountId()).size() : 0;
+        return new HotAccountInfo(
+                account.getAccountId(),
+                account.isHotAccount(),
+                slots,
+                account.getBalance(),
+                pending,
+                account.getBalance().add(pending)
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.service.user.ErrorLogService;
+import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 핫 계좌 슬롯 잔액을 주기적으로 accounts.balance 에 합산 (계좌별 개별 트랜잭션)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotAccountConsolidationScheduler {
+
+    private final HotAccountBalanceService hotAccountBalanceService;
+    private final ErrorLogService errorLogService;
+
+    @Scheduled(fixedDelayString = "${ezpay.payment.hot-account.consolidate-interval-ms:5000}")
+    public void consolidate() {
+        for (Long accountId : hotAccountBalanceService.getAccountIdsToConsolidate()) {
+            try {
+                hotAccountBalanceService.consolidate(accountId);
+            } catch (Exception e) {
+                log.warn("핫 계좌 잔액 합산 실패: accountId={}, {}", accountId, e.getMessage());
+                errorLogService.logError("HotAccount", "잔액 합산 실패: " + accountId + " " + e.getMessage(), ErrorLogStatus.UNRESOLVED);
+            }
+        }
+    }
+}
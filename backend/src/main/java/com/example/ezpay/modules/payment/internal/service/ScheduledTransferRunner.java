@@ -0,0 +1,235 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.modules.payment.internal.entity.ScheduledTransfer;
+import com.example.ezpay.modules.payment.internal.repository.ScheduledTransferRepository;
+import com.example.ezpay.shared.common.enums.ScheduledTransferStatus;
+import com.example.ezpay.shared.exception.CustomNotFoundException;
+import com.example.ezpay.shared.exception.TransferQueueFullException;
+import com.example.ezpay.shared.util.RateLimiter;
+import com.example.ezpay.shared.util.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약/반복 송금 실행기
+ * - 주기적으로 (status, nextRunAt) 인덱스 범위만 조회해 실행 구간(window) 안에 들어온 예약을 lease 로 점유하고 타이밍 휠에 올린다.
+ *   틱마다 테이블을 읽지 않으므로 월초 00:00 처럼 수십만 건이 몰려도 DB 조회는 구간 적재 때만 일어난다.
+ * - 만료된 회차는 속도 제한을 두고 송금 파이프라인(transferMoney)으로 발행한다.
+ * - requestId 는 (예약 ID, 회차)로 고정되므로, 발행 후 회차 갱신 전에 죽어 같은 회차가 다시 발행되어도 송금은 한 번만 처리된다.
+ */
+@Slf4j
+@Component
+public class ScheduledTransferRunner {
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final TransactionService transactionService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowMs;
+    private final long leaseGraceMs;
+    private final int loadBatchSize;
+    private final int maxPending;
+    private final int dispatchers;
+    private final long tickMs;
+    private final long retryBackoffMs;
+    private final RateLimiter rateLimiter;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final TimingWheel<ScheduledRun> wheel;
+    private final BlockingQueue<ScheduledRun> dueRuns = new LinkedBlockingQueue<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public ScheduledTransferRunner(ScheduledTransferRepository scheduledTransferRepository,
+                                   TransactionService transactionService,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${ezpay.payment.schedule.enabled:true}") boolean enabled,
+                                   @Value("${ezpay.payment.schedule.window-seconds:60}") long windowSeconds,
+                                   @Value("${ezpay.payment.schedule.lease-grace-seconds:600}") long leaseGraceSeconds,
+                                   @Value("${ezpay.payment.schedule.load-batch-size:5000}") int loadBatchSize,
+                                   @Value("${ezpay.payment.schedule.max-pending:200000}") int maxPending,
+                                   @Value("${ezpay.payment.schedule.dispatchers:4}") int dispatchers,
+                                   @Value("${ezpay.payment.schedule.tick-ms:100}") long tickMs,
+                                   @Value("${ezpay.payment.schedule.wheel-size:512}") int wheelSize,
+                                   @Value("${ezpay.payment.schedule.fire-rate-per-second:1000}") double fireRatePerSecond,
+                                   @Value("${ezpay.payment.schedule.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.scheduledTransferRepository = scheduledTransferRepository;
+        this.transactionService = transactionService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.windowMs = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.leaseGraceMs = TimeUnit.SECONDS.toMillis(leaseGraceSeconds);
+        this.loadBatchSize = Math.max(1, loadBatchSize);
+        this.maxPending = Math.max(1, maxPending);
+        this.dispatchers = Math.max(1, dispatchers);
+        this.tickMs = Math.max(1, tickMs);
+        this.retryBackoffMs = retryBackoffMs;
+        this.rateLimiter = new RateLimiter(fireRatePerSecond);
+        this.wheel = new TimingWheel<>(this.tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+
+        Thread ticker = new Thread(this::runTicker, "scheduled-transfer-ticker");
+        threads.add(ticker);
+        for (int i = 0; i < dispatchers; i++) {
+            threads.add(new Thread(this::runDispatcher, "scheduled-transfer-dispatcher-" + i));
+        }
+        threads.forEach(Thread::start);
+        log.info("예약 송금 실행기 시작: owner={}, window={}ms, dispatchers={}", owner, windowMs, dispatchers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 휠에 남은 회차는 점유를 풀어 다른 인스턴스(또는 재기동 후)가 바로 가져가게 함
+        try {
+            Integer released = transactionTemplate.execute(status -> scheduledTransferRepository.releaseLeases(owner));
+            log.info("예약 송금 실행기 종료: 점유 해제 {}건", released);
+        } catch (Exception e) {
+            log.warn("예약 송금 점유 해제 실패 (lease 만료 후 재적재됨): {}", e.getMessage());
+        }
+    }
+
+    // 실행 구간 안에 들어온 예약을 점유해 타이밍 휠에 적재
+    @Scheduled(fixedDelayString = "${ezpay.payment.schedule.load-interval-ms:10000}")
+    public void loadDueWindow() {
+        if (!running) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plusNanos(windowMs * 1_000_000);
+        LocalDateTime leaseUntil = horizon.plusNanos(leaseGraceMs * 1_000_000);
+
+        try {
+            int loaded = 0;
+            while (pendingCount() < maxPending) {
+                int limit = Math.min(loadBatchSize, maxPending - pendingCount());
+                List<Long> ids = scheduledTransferRepository.findDueIds(ScheduledTransferStatus.ACTIVE, horizon, now, PageRequest.of(0, limit));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                List<ScheduledTransfer> claimed = transactionTemplate.execute(status -> {
+                    scheduledTransferRepository.claim(ids, ScheduledTransferStatus.ACTIVE, owner, now, leaseUntil);
+                    return scheduledTransferRepository.findByLeaseOwnerAndIdIn(owner, ids);
+                });
+                for (ScheduledTransfer schedule : claimed) {
+                    long dueMs = schedule.getNextRunAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                    enqueue(new ScheduledRun(schedule.getId(), schedule.getRunCount()), dueMs);
+                }
+                loaded += claimed.size();
+
+                if (ids.size() < limit) {
+                    break;
+                }
+            }
+            if (loaded > 0) {
+                log.info("예약 송금 {}건 적재 (대기 {}건)", loaded, pendingCount());
+            }
+        } catch (Exception e) {
+            log.error("예약 송금 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public int pendingCount() {
+        return wheel.size() + dueRuns.size();
+    }
+
+    private void enqueue(ScheduledRun run, long dueMs) {
+        if (!wheel.add(dueMs, run)) {
+            dueRuns.add(run);
+        }
+    }
+
+    private void runTicker() {
+        while (running) {
+            try {
+                Thread.sleep(tickMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            dueRuns.addAll(wheel.advance(System.currentTimeMillis()));
+        }
+    }
+
+    private void runDispatcher() {
+        while (running) {
+            try {
+                ScheduledRun run = dueRuns.poll(200, TimeUnit.MILLISECONDS);
+                if (run == null) {
+                    continue;
+                }
+                rateLimiter.acquire();
+                fire(run);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 회차 발행 후 같은 트랜잭션에서 다음 회차로 진행 (발행 전에 회차를 넘기면 장애 시 회차가 유실됨)
+    private void fire(ScheduledRun run) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ScheduledTransfer schedule = scheduledTransferRepository.findByIdForUpdate(run.scheduleId()).orElse(null);
+                if (schedule == null || !schedule.isClaimedFor(owner, run.runIndex())) {
+                    // 취소되었거나 lease 만료 후 다른 인스턴스가 가져간 회차
+                    return;
+                }
+
+                String requestId = schedule.requestIdFor(run.runIndex());
+                LocalDateTime firedAt = LocalDateTime.now();
+                try {
+                    transactionService.transferMoney(schedule.toTransferRequest(), requestId);
+                    schedule.recordRun(requestId, firedAt);
+                } catch (IllegalArgumentException | CustomNotFoundException e) {
+                    log.warn("예약 송금 회차 건너뜀: scheduleId={}, run={}, {}", run.scheduleId(), run.runIndex(), e.getMessage());
+                    schedule.recordFailure(requestId, firedAt, e.getMessage());
+                }
+            });
+        } catch (TransferQueueFullException e) {
+            // 송금 큐가 가득 참 - 같은 회차를 잠시 뒤 다시 발행
+            enqueue(run, System.currentTimeMillis() + retryBackoffMs);
+        } catch (Exception e) {
+            log.error("예약 송금 발행 실패, 재시도 예정: scheduleId={}, run={}, {}", run.scheduleId(), run.runIndex(), e.getMessage());
+            enqueue(run, System.currentTimeMillis() + retryBackoffMs);
+        }
+    }
+
+    private record ScheduledRun(Long scheduleId, int runIndex) {
+    }
+}
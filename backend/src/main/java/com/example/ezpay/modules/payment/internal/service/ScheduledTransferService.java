@@ -0,0 +1,17 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.modules.payment.api.dto.ScheduledTransferInfo;
+import com.example.ezpay.modules.payment.api.dto.ScheduledTransferRequest;
+
+import java.util.List;
+
+/**
+ * Payment 모듈 내부 서비스 - 예약/반복 송금 등록 및 관리 (실행은 ScheduledTransferRunner)
+ */
+public interface ScheduledTransferService {
+    ScheduledTransferInfo createScheduledTransfer(String email, ScheduledTransferRequest request);
+
+    List<ScheduledTransferInfo> getScheduledTransfers(String email);
+
+    ScheduledTransferInfo cancelScheduledTransfer(String email, Long scheduleId);
+}
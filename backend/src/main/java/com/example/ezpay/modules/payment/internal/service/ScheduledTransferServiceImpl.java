@@ -0,0 +1,109 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.model.user.Accounts;
+import com.example.ezpay.model.user.User;
+import com.example.ezpay.modules.payment.api.dto.ScheduledTransferInfo;
+import com.example.ezpay.modules.payment.api.dto.ScheduledTransferRequest;
+import com.example.ezpay.modules.payment.internal.entity.ScheduledTransfer;
+import com.example.ezpay.modules.payment.internal.repository.ScheduledTransferRepository;
+import com.example.ezpay.repository.user.AccountRepository;
+import com.example.ezpay.repository.user.UserRepository;
+import com.example.ezpay.shared.common.enums.ScheduledTransferStatus;
+import com.example.ezpay.shared.exception.CustomNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduledTransferServiceImpl implements ScheduledTransferService {
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public ScheduledTransferInfo createScheduledTransfer(String email, ScheduledTransferRequest request) {
+        User user = getUser(email);
+
+        // 본인 계좌가 아니면 존재하지 않는 계좌와 같은 응답
+        Accounts fromAccount = accountRepository.findById(request.getFromAccountId())
+                .filter(account -> account.getUser().getUserId().equals(user.getUserId()))
+                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        if (!accountRepository.existsById(request.getToAccountId())) {
+            throw new CustomNotFoundException("계좌를 찾을 수 없습니다.");
+        }
+        if (fromAccount.getAccountId().equals(request.getToAccountId())) {
+            throw new IllegalArgumentException("같은 계좌로는 예약 송금할 수 없습니다.");
+        }
+        if (request.getEndAt() != null && request.getEndAt().isBefore(request.getFirstRunAt())) {
+            throw new IllegalArgumentException("종료 시각은 첫 송금 시각 이후여야 합니다.");
+        }
+
+        ScheduledTransfer schedule = scheduledTransferRepository.save(ScheduledTransfer.builder()
+                .userId(user.getUserId())
+                .senderAccountId(fromAccount.getAccountId())
+                .receiverAccountId(request.getToAccountId())
+                .amount(request.getAmount())
+                .memo(request.getMemo())
+                .category(request.getCategory())
+                .frequency(request.getFrequency())
+                .firstRunAt(request.getFirstRunAt())
+                .endAt(request.getEndAt())
+                .maxRuns(request.getMaxRuns())
+                .build());
+        return toScheduledTransferInfo(schedule);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduledTransferInfo> getScheduledTransfers(String email) {
+        User user = getUser(email);
+        return scheduledTransferRepository.findByUserIdOrderByIdDesc(user.getUserId()).stream()
+                .map(this::toScheduledTransferInfo)
+                .toList();
+    }
+
+    // 실행기가 이미 휠에 올린 회차도 발행 시점에 상태를 다시 확인하므로 취소 즉시 반영됨
+    @Override
+    @Transactional
+    public ScheduledTransferInfo cancelScheduledTransfer(String email, Long scheduleId) {
+        User user = getUser(email);
+        ScheduledTransfer schedule = scheduledTransferRepository.findByIdForUpdate(scheduleId)
+                .filter(found -> found.getUserId().equals(user.getUserId()))
+                .orElseThrow(() -> new CustomNotFoundException("예약 송금을 찾을 수 없습니다."));
+        if (schedule.getStatus() == ScheduledTransferStatus.ACTIVE) {
+            schedule.cancel();
+        }
+        return toScheduledTransferInfo(schedule);
+    }
+
+    private User getUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
+    private ScheduledTransferInfo toScheduledTransferInfo(ScheduledTransfer schedule) {
+        return new ScheduledTransferInfo(
+                schedule.getId(),
+                schedule.getSenderAccountId(),
+                schedule.getReceiverAccountId(),
+                schedule.getAmount(),
+                schedule.getMemo(),
+                schedule.getCategory(),
+                schedule.getFrequency().name(),
+                schedule.getStatus().name(),
+                schedule.getFirstRunAt(),
+                schedule.getEndAt(),
+                schedule.getMaxRuns(),
+                schedule.getRunCount(),
+                schedule.getNextRunAt(),
+                schedule.getLastRequestId(),
+                schedule.getLastRunAt(),
+                schedule.getLastError()
+        );
+    }
+}
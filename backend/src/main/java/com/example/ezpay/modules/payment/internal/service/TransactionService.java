@@ -2,9 +2,17 @@ package com.example.ezpay.modules.payment.internal.service;
 
 import com.example.ezpay.shared.messaging.events.TransferEvent;
 import com.example.ezpay.model.user.Transaction;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
 import com.example.ezpay.modules.payment.api.dto.AccountOwnerInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferItemInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferRequest;
+import com.example.ezpay.modules.payment.api.dto.TransferContentionStats;
+import com.example.ezpay.modules.payment.api.dto.TransferStageLatency;
 import com.example.ezpay.modules.payment.api.dto.TransferRequest;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 
 /**
@@ -14,9 +22,29 @@ public interface TransactionService {
     // kafka 이벤트 발생
     String transferMoney(TransferRequest transferRequest);
 
+    // 호출자가 정한 requestId 로 발행 (예약 송금 회차 등, 같은 requestId 는 한 번만 처리됨)
+    String transferMoney(TransferRequest transferRequest, String requestId);
+
     // 송금 처리 및 거래 기록 저장
     Transaction processTransfer(TransferEvent transferEvent);
 
+    // 배치 송금 처리 (한 트랜잭션, 계좌 일괄 락) - 실패 건은 결과에 인덱스로 분리
+    TransferBatchResult processTransferBatch(List<TransferEvent> transferEvents);
+
+    // 대량 송금 (출금 1회, 입금은 비동기 청크 처리) 및 진행 상태 조회
+    BulkTransferInfo createBulkTransfer(BulkTransferRequest bulkTransferRequest);
+    BulkTransferInfo getBulkTransfer(String bulkRequestId);
+    Page<BulkTransferItemInfo> getBulkTransferItems(String bulkRequestId, TransactionStatus status, int page, int size);
+
+    // 동시성 제어 방식(비관적/낙관적)별 경합 지표
+    TransferContentionStats getContentionStats();
+    void resetContentionStats();
+
+    // 송금 파이프라인 구간별 지연 시간 (p50/p95/p99)
+    List<TransferStageLatency> getLatencyStats();
+    void resetLatencyStats();
+    void recordQueueDwell(long recordTimestampMillis);
+
     List<Transaction> getTransactionByAccount(Long accountId);
     Transaction getTransactionById(Long transactionId);
     Transaction getTransactionByRequestId(String requestId);
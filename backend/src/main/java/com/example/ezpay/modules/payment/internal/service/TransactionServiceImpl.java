@@ -1,85 +1,496 @@
 package com.example.ezpay.modules.payment.internal.service;
 
-import com.example.ezpay.shared.common.enums.NotificationType;
 import com.example.ezpay.model.user.*;
 import com.example.ezpay.shared.exception.CustomNotFoundException;
 import com.example.ezpay.shared.exception.TransferLimitExceededException;
-import com.example.ezpay.kafka.TransactionProducer;
 import com.example.ezpay.shared.common.enums.ErrorLogStatus;
 import com.example.ezpay.shared.common.enums.TransactionStatus;
+import com.example.ezpay.shared.common.enums.TransferConcurrencyMode;
+import com.example.ezpay.shared.common.enums.TransferStage;
+import com.example.ezpay.modules.payment.api.dto.TransferStageLatency;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferItemInfo;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferItemRequest;
+import com.example.ezpay.modules.payment.api.dto.BulkTransferRequest;
+import com.example.ezpay.modules.payment.api.dto.TransferContentionStats;
+import com.example.ezpay.shared.messaging.TransferEventPublisher;
 import com.example.ezpay.shared.messaging.events.TransferEvent;
 import com.example.ezpay.repository.user.*;
 import com.example.ezpay.modules.payment.api.dto.AccountOwnerInfo;
 import com.example.ezpay.modules.payment.api.dto.TransferRequest;
-import com.example.ezpay.modules.notification.internal.service.NotificationService;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupWriter;
+import com.example.ezpay.modules.ledger.entity.LedgerEntryReason;
+import com.example.ezpay.modules.ledger.service.LedgerWriter;
+import com.example.ezpay.modules.outbox.service.OutboxPublisher;
+import com.example.ezpay.modules.payment.internal.outbox.TransferOutboxEvents;
+import com.example.ezpay.modules.payment.internal.outbox.TransferOutboxPayload;
+import com.example.ezpay.modules.payment.internal.entity.BulkTransfer;
+import com.example.ezpay.modules.payment.internal.entity.BulkTransferItem;
+import com.example.ezpay.modules.payment.internal.entity.DailyTransferSpend;
+import com.example.ezpay.modules.payment.internal.repository.BulkTransferItemRepository;
+import com.example.ezpay.modules.payment.internal.repository.BulkTransferRepository;
 import com.example.ezpay.service.user.ErrorLogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
-    private final TransactionProducer transactionProducer;
-    private final TransferLimitRepository transferLimitRepository;
-    private final TrainingDataRepository trainingDataRepository;
-    private final NotificationRepository notificationRepository;
+    private final TransferEventPublisher transferEventPublisher;
+    private final TransferLimitCache transferLimitCache;
     private final ErrorLogService errorLogService;
-    private final NotificationService notificationService;
-
-    // 송금 요청 (kafka 이벤트 발행)
+    private final DailySpendCounter dailySpendCounter;
+    private final HotAccountBalanceService hotAccountBalanceService;
+    private final TransferContentionMetrics contentionMetrics;
+    private final TransferLatencyMetrics latencyMetrics;
+    private final TransferIdempotencyGuard idempotencyGuard;
+    private final OutboxPublisher outboxPublisher;
+    private final BulkTransferRepository bulkTransferRepository;
+    private final BulkTransferItemRepository bulkTransferItemRepository;
+    private final BulkTransferProcessor bulkTransferProcessor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final LedgerWriter ledgerWriter;
+    private final DashboardRollupWriter rollupWriter;
+
+    @Value("${ezpay.payment.concurrency-mode:PESSIMISTIC}")
+    private TransferConcurrencyMode concurrencyMode;
+
+    @Value("${ezpay.payment.optimistic.max-attempts:5}")
+    private int optimisticMaxAttempts;
+
+    @Value("${ezpay.payment.optimistic.base-backoff-ms:5}")
+    private long optimisticBaseBackoffMs;
+
+    @Value("${ezpay.payment.optimistic.max-backoff-ms:200}")
+    private long optimisticMaxBackoffMs;
+
+    @Value("${ezpay.payment.bulk.max-items:10000}")
+    private int bulkMaxItems;
+
+    // 송금 요청 (이벤트 발행 후 requestId 즉시 반환, 결과는 requestId 로 조회)
     @Override
     public String transferMoney(TransferRequest transferRequest) {
-        String requestId = UUID.randomUUID().toString();
+        return transferMoney(transferRequest, UUID.randomUUID().toString());
+    }
 
+    @Override
+    public String transferMoney(TransferRequest transferRequest, String requestId) {
         // 1. 송금 이벤트 객체 생성
         TransferEvent event = new TransferEvent(requestId, transferRequest.getFromAccountId(), transferRequest.getToAccountId(), transferRequest.getAmount(),
                 transferRequest.getMemo(), transferRequest.getCategory(), transferRequest.isCategoryManuallyEdited());
 
-        // 2. Kafka에 이벤트 발행
-        transactionProducer.sendTransferEvent(event);
+        // 2. 이벤트 발행 (Kafka 또는 인프로세스 엔진)
+        long produceStartedAt = System.nanoTime();
+        transferEventPublisher.sendTransferEvent(event);
+        latencyMetrics.record(TransferStage.PRODUCE, System.nanoTime() - produceStartedAt);
 
         return requestId;
     }
 
     // kafka 이벤트 수신 후 송금 처리
+    // 트랜잭션은 동시성 모드에 따라 시도 단위로 열림 (낙관적 모드는 충돌 시 새 트랜잭션으로 재시도)
     @Override
-    @Transactional(transactionManager = "transactionManager")
     public Transaction processTransfer(TransferEvent event) {
-        if (event.getRequestId() == null || event.getRequestId().isBlank()) {
-            throw new IllegalArgumentException("requestId가 비어있습니다.");
+        try {
+            return executeWithConcurrencyControl(() -> doProcessTransfer(event));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 requestId 를 다른 스레드/인스턴스가 먼저 커밋 (requestId 유니크 제약): 롤백 후 기존 거래 반환
+            return transactionRepository.findByRequestId(event.getRequestId())
+                    .orElseThrow(() -> e);
         }
+    }
 
-        // idempotency (at-least-once 대응)
-        Transaction existing = transactionRepository.findByRequestId(event.getRequestId()).orElse(null);
+    private Transaction doProcessTransfer(TransferEvent event) {
+        validateRequestId(event);
+
+        // idempotency (at-least-once 대응) - 처음 보는 requestId 는 DB 조회 생략
+        Transaction existing = idempotencyGuard.findProcessed(event.getRequestId()).orElse(null);
         if (existing != null) {
             return existing;
         }
 
-        // 계좌 락은 항상 같은 순서로 잡아 데드락을 줄임
-        Long firstLockId = event.getFromAccountId() <= event.getToAccountId() ? event.getFromAccountId() : event.getToAccountId();
-        Long secondLockId = event.getFromAccountId() <= event.getToAccountId() ? event.getToAccountId() : event.getFromAccountId();
+        long lockStartedAt = System.nanoTime();
+        Accounts fromAccount;
+        Accounts toAccount;
+        if (!event.getFromAccountId().equals(event.getToAccountId())
+                && hotAccountBalanceService.isHotAccount(event.getToAccountId())) {
+            // 핫 계좌 입금은 슬롯에 분산되므로 송금 계좌만 락
+            fromAccount = loadAccountForUpdate(event.getFromAccountId());
+            toAccount = accountRepository.findById(event.getToAccountId())
+                    .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        } else {
+            // 계좌 락은 항상 같은 순서로 잡아 데드락을 줄임
+            Long firstLockId = event.getFromAccountId() <= event.getToAccountId() ? event.getFromAccountId() : event.getToAccountId();
+            Long secondLockId = event.getFromAccountId() <= event.getToAccountId() ? event.getToAccountId() : event.getFromAccountId();
+
+            Accounts firstLocked = loadAccountForUpdate(firstLockId);
+            Accounts secondLocked = loadAccountForUpdate(secondLockId);
+
+            fromAccount = firstLockId.equals(event.getFromAccountId()) ? firstLocked : secondLocked;
+            toAccount = firstLockId.equals(event.getToAccountId()) ? firstLocked : secondLocked;
+        }
+        latencyMetrics.record(TransferStage.LOCK_ACQUISITION, System.nanoTime() - lockStartedAt);
 
-        Accounts firstLocked = accountRepository.findByIdForUpdate(firstLockId)
-                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
-        Accounts secondLocked = accountRepository.findByIdForUpdate(secondLockId)
+        Transaction transaction = newProcessingTransaction(event, fromAccount, toAccount);
+
+        // 시퀀스 ID 라 INSERT 는 커밋 시 배치로 나감: requestId 중복은 커밋 시 유니크 제약 위반으로 드러나며
+        // 트랜잭션 전체가 롤백된 뒤 processTransfer 가 먼저 커밋된 거래를 반환
+        transactionRepository.save(transaction);
+
+        Transaction result = executeTransfer(event, transaction, fromAccount, toAccount);
+        idempotencyGuard.recordCompleted(result);
+        return result;
+    }
+
+    // 배치 송금 처리: 한 번의 DB 트랜잭션에서 관련 계좌를 정렬된 순서로 한 번에 락 잡고 순차 적용
+    // 건별 처리 중 예외가 나면 그 건만 실패로 기록하고 나머지를 다시 한 배치로 처리 (건별 재처리로 넘어가지 않음)
+    // 잔액/원장/집계/알림은 모두 트랜잭션 커밋에 묶여 있으므로 롤백된 시도의 흔적은 남지 않음
+    @Override
+    public TransferBatchResult processTransferBatch(List<TransferEvent> events) {
+        Map<Integer, RuntimeException> failures = new TreeMap<>();
+        while (true) {
+            try {
+                Integer applied = transactionTemplate.execute(status -> applyTransferBatch(events, failures));
+                return new TransferBatchResult(applied, failures);
+            } catch (BatchEventFailure e) {
+                failures.put(e.index, e.failure);
+            }
+        }
+    }
+
+    private int applyTransferBatch(List<TransferEvent> events, Map<Integer, RuntimeException> failures) {
+        List<String> requestIds = events.stream()
+                .map(TransferEvent::getRequestId)
+                .filter(requestId -> requestId != null && !requestId.isBlank())
+                .toList();
+        // Bloom filter 상 처음 보는 requestId 는 DB 조회 대상에서 제외
+        List<String> possiblyProcessed = requestIds.stream()
+                .filter(idempotencyGuard::mightBeProcessed)
+                .toList();
+        requestIds.forEach(idempotencyGuard::markSeen);
+        Set<String> processedRequestIds = possiblyProcessed.isEmpty() ? new HashSet<>() : transactionRepository.findByRequestIdIn(possiblyProcessed).stream()
+                .map(Transaction::getRequestId)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // 핫 계좌 입금은 슬롯에 분산되므로 송금 계좌로 쓰이지 않는 핫 수신 계좌는 락 없이 조회 (doProcessTransfer 와 동일)
+        Set<Long> senderIds = events.stream()
+                .map(TransferEvent::getFromAccountId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> unlockedReceiverIds = events.stream()
+                .map(TransferEvent::getToAccountId)
+                .filter(accountId -> accountId != null && !senderIds.contains(accountId))
+                .filter(hotAccountBalanceService::isHotAccount)
+                .collect(Collectors.toSet());
+        List<Long> lockIds = events.stream()
+                .flatMap(event -> Stream.of(event.getFromAccountId(), event.getToAccountId()))
+                .filter(accountId -> accountId != null && !unlockedReceiverIds.contains(accountId))
+                .distinct()
+                .sorted()
+                .toList();
+        long lockStartedAt = System.nanoTime();
+        Map<Long, Accounts> accounts = new HashMap<>();
+        if (!lockIds.isEmpty()) {
+            accountRepository.findAllByIdInForUpdate(lockIds).forEach(account -> accounts.put(account.getAccountId(), account));
+        }
+        latencyMetrics.record(TransferStage.LOCK_ACQUISITION, System.nanoTime() - lockStartedAt);
+        if (!unlockedReceiverIds.isEmpty()) {
+            accountRepository.findAllById(unlockedReceiverIds).forEach(account -> accounts.put(account.getAccountId(), account));
+        }
+
+        int applied = 0;
+        for (int i = 0; i < events.size(); i++) {
+            // 이전 시도에서 실패한 건은 제외
+            if (failures.containsKey(i)) {
+                continue;
+            }
+            TransferEvent event = events.get(i);
+            try {
+                validateRequestId(event);
+            } catch (IllegalArgumentException e) {
+                failures.put(i, e);
+                continue;
+            }
+
+            // 이미 처리되었거나 같은 배치 안에서 중복된 요청은 건너뜀
+            if (!processedRequestIds.add(event.getRequestId())) {
+                continue;
+            }
+
+            try {
+                // 계좌가 없으면 건별 처리(doProcessTransfer)와 같은 CustomNotFoundException 으로 실패
+                // (거래 행은 송금/수신 계좌 FK 가 필수라 어느 경로에서도 남기지 않음)
+                Accounts fromAccount = requireAccount(accounts, event.getFromAccountId());
+                Accounts toAccount = requireAccount(accounts, event.getToAccountId());
+
+                Transaction transaction = newProcessingTransaction(event, fromAccount, toAccount);
+                transactionRepository.save(transaction);
+                idempotencyGuard.recordCompleted(executeTransfer(event, transaction, fromAccount, toAccount));
+            } catch (RuntimeException e) {
+                throw new BatchEventFailure(i, e);
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    private static Accounts requireAccount(Map<Long, Accounts> accounts, Long accountId) {
+        Accounts account = accountId == null ? null : accounts.get(accountId);
+        if (account == null) {
+            throw new CustomNotFoundException("계좌를 찾을 수 없습니다.");
+        }
+        return account;
+    }
+
+    // 배치 내 한 건의 실패 (배치 트랜잭션을 롤백하고 해당 건을 제외한 뒤 다시 처리)
+    private static class BatchEventFailure extends RuntimeException {
+        private final int index;
+        private final RuntimeException failure;
+
+        BatchEventFailure(int index, RuntimeException failure) {
+            super(failure.getMessage(), failure, false, false);
+            this.index = index;
+            this.failure = failure;
+        }
+    }
+
+    // 대량 송금 요청: 합계 기준으로 잔액/한도를 한 번 검증하고 출금 계좌를 한 번만 차감
+    // 수신 계좌 입금은 커밋 이후 BulkTransferProcessor 가 청크 단위로 처리
+    @Override
+    public BulkTransferInfo createBulkTransfer(BulkTransferRequest request) {
+        String bulkRequestId = request.getBulkRequestId() == null || request.getBulkRequestId().isBlank()
+                ? UUID.randomUUID().toString()
+                : request.getBulkRequestId();
+
+        Optional<BulkTransfer> existing = bulkTransferRepository.findByBulkRequestId(bulkRequestId);
+        if (existing.isPresent()) {
+            return toBulkTransferInfo(existing.get());
+        }
+
+        BulkTransfer bulk;
+        try {
+            bulk = executeWithConcurrencyControl(() -> doCreateBulkTransfer(request, bulkRequestId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 bulkRequestId 동시 요청
+            return toBulkTransferInfo(bulkTransferRepository.findByBulkRequestId(bulkRequestId).orElseThrow(() -> e));
+        }
+
+        bulkTransferProcessor.submit(bulk.getId());
+        return toBulkTransferInfo(bulk);
+    }
+
+    private BulkTransfer doCreateBulkTransfer(BulkTransferRequest request, String bulkRequestId) {
+        List<BulkTransferItemRequest> items = request.getItems();
+        if (items.size() > bulkMaxItems) {
+            throw new IllegalArgumentException("대량 송금은 최대 " + bulkMaxItems + "건까지 가능합니다.");
+        }
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal maxAmount = BigDecimal.ZERO;
+        Set<Long> receiverIds = new HashSet<>();
+        for (BulkTransferItemRequest item : items) {
+            if (item.getAmount() == null || item.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                throw new IllegalArgumentException("송금 금액이 올바르지 않습니다.");
+            }
+            totalAmount = totalAmount.add(item.getAmount());
+            maxAmount = maxAmount.max(item.getAmount());
+            receiverIds.add(item.getToAccountId());
+        }
+
+        if (receiverIds.contains(request.getFromAccountId())) {
+            throw new IllegalArgumentException("동일한 계좌로 송금할 수 없습니다.");
+        }
+
+        Set<Long> missing = new TreeSet<>(receiverIds);
+        accountRepository.findExistingIds(receiverIds).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new CustomNotFoundException("계좌를 찾을 수 없습니다. : " + missing.stream().limit(10).toList());
+        }
+
+        Accounts fromAccount = loadAccountForUpdate(request.getFromAccountId());
+        TransferLimitCache.Limits transferLimit = transferLimitCache.get(fromAccount.getUser().getUserId())
+                .orElseThrow(() -> new CustomNotFoundException("송금 한도 정보를 찾을 수 없습니다."));
+
+        if (hotAccountBalanceService.getAvailableBalance(fromAccount).compareTo(totalAmount) < 0) {
+            throw new IllegalArgumentException("잔액 부족으로 송금할 수 없습니다.");
+        }
+
+        if (maxAmount.compareTo(transferLimit.perTransactionLimit()) > 0) {
+            throw new TransferLimitExceededException("1회 송금 한도를 초과한 항목이 있습니다.");
+        }
+
+        DailyTransferSpend todaySpend = dailySpendCounter.getCounter(fromAccount.getAccountId(), LocalDate.now());
+        if (todaySpend.getAmount().add(totalAmount).compareTo(transferLimit.dailyLimit()) > 0) {
+            throw new TransferLimitExceededException("하루 송금 한도를 초과했습니다.");
+        }
+
+        hotAccountBalanceService.debit(fromAccount, totalAmount);
+        accountRepository.save(fromAccount);
+        dailySpendCounter.add(todaySpend, totalAmount);
+        // 출금은 총액 1건, 입금은 청크 처리 시 항목별로 분개
+        ledgerWriter.recordDebit(fromAccount.getAccountId(), null, totalAmount, null, bulkRequestId, LedgerEntryReason.BULK_TRANSFER);
+
+        BulkTransfer bulk = bulkTransferRepository.save(BulkTransfer.builder()
+                .bulkRequestId(bulkRequestId)
+                .senderAccountId(fromAccount.getAccountId())
+                .totalAmount(totalAmount)
+                .itemCount(items.size())
+                .build());
+        bulkTransferProcessor.insertItems(bulk.getId(), items);
+        return bulk;
+    }
+
+    @Override
+    public BulkTransferInfo getBulkTransfer(String bulkRequestId) {
+        return toBulkTransferInfo(findBulkTransfer(bulkRequestId));
+    }
+
+    @Override
+    public Page<BulkTransferItemInfo> getBulkTransferItems(String bulkRequestId, TransactionStatus status, int page, int size) {
+        BulkTransfer bulk = findBulkTransfer(bulkRequestId);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("itemNo"));
+        Page<BulkTransferItem> items = status == null
+                ? bulkTransferItemRepository.findByBulkTransferId(bulk.getId(), pageRequest)
+                : bulkTransferItemRepository.findByBulkTransferIdAndStatus(bulk.getId(), status, pageRequest);
+
+        return items.map(item -> new BulkTransferItemInfo(
+                item.getItemNo(),
+                item.getReceiverAccountId(),
+                item.getAmount(),
+                item.getMemo(),
+                item.getCategory(),
+                item.getStatus().name(),
+                item.getFailureReason(),
+                item.getProcessedAt()
+        ));
+    }
+
+    private BulkTransfer findBulkTransfer(String bulkRequestId) {
+        return bulkTransferRepository.findByBulkRequestId(bulkRequestId)
+                .orElseThrow(() -> new CustomNotFoundException("대량 송금을 찾을 수 없습니다. : " + bulkRequestId));
+    }
+
+    private BulkTransferInfo toBulkTransferInfo(BulkTransfer bulk) {
+        int done = bulk.getCreditedCount() + bulk.getFailedCount();
+        return new BulkTransferInfo(
+                bulk.getBulkRequestId(),
+                bulk.getSenderAccountId(),
+                bulk.getStatus().name(),
+                bulk.getTotalAmount(),
+                bulk.getRefundedAmount(),
+                bulk.getItemCount(),
+                bulk.getCreditedCount(),
+                bulk.getFailedCount(),
+                bulk.getPendingCount(),
+                bulk.getItemCount() == 0 ? 100.0 : Math.round(done * 1000.0 / bulk.getItemCount()) / 10.0,
+                bulk.getCreatedAt(),
+                bulk.getCompletedAt()
+        );
+    }
+
+    @Override
+    public TransferContentionStats getContentionStats() {
+        return contentionMetrics.snapshot(concurrencyMode);
+    }
+
+    @Override
+    public void resetContentionStats() {
+        contentionMetrics.reset();
+    }
+
+    @Override
+    public List<TransferStageLatency> getLatencyStats() {
+        return latencyMetrics.snapshot();
+    }
+
+    @Override
+    public void resetLatencyStats() {
+        latencyMetrics.reset();
+    }
+
+    @Override
+    public void recordQueueDwell(long recordTimestampMillis) {
+        latencyMetrics.recordMillis(TransferStage.QUEUE_DWELL, System.currentTimeMillis() - recordTimestampMillis);
+    }
+
+    // 비관적 모드: 한 번의 트랜잭션에서 행 락으로 직렬화
+    // 낙관적 모드: 버전 충돌(OptimisticLockingFailureException)이면 지수 백오프 + 지터 후 새 트랜잭션으로 재시도
+    private <T> T executeWithConcurrencyControl(Supplier<T> work) {
+        int maxAttempts = concurrencyMode == TransferConcurrencyMode.OPTIMISTIC ? Math.max(1, optimisticMaxAttempts) : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            contentionMetrics.recordAttempt();
+            try {
+                T result = transactionTemplate.execute(status -> work.get());
+                contentionMetrics.recordCommitted();
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                contentionMetrics.recordConflict();
+                if (attempt >= maxAttempts) {
+                    contentionMetrics.recordExhausted();
+                    errorLogService.logError("Transaction Service", "동시 갱신 충돌로 재시도 한도 초과: " + e.getMessage(), ErrorLogStatus.UNRESOLVED);
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(optimisticMaxBackoffMs, optimisticBaseBackoffMs << Math.min(attempt - 1, 20));
+        long sleepMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        contentionMetrics.recordBackoff(sleepMs);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("송금 재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    // 비관적 모드는 행 락(대기 시간 기록), 낙관적 모드는 락 없이 조회 후 커밋 시 버전 검사
+    private Accounts loadAccountForUpdate(Long accountId) {
+        if (concurrencyMode == TransferConcurrencyMode.OPTIMISTIC) {
+            return accountRepository.findById(accountId)
+                    .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        }
+
+        long start = System.nanoTime();
+        Accounts account = accountRepository.findByIdForUpdate(accountId)
                 .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        contentionMetrics.recordLockWait(System.nanoTime() - start);
+        return account;
+    }
 
-        Accounts fromAccount = firstLockId.equals(event.getFromAccountId()) ? firstLocked : secondLocked;
-        Accounts toAccount = firstLockId.equals(event.getToAccountId()) ? firstLocked : secondLocked;
+    private void validateRequestId(TransferEvent event) {
+        if (event.getRequestId() == null || event.getRequestId().isBlank()) {
+            throw new IllegalArgumentException("requestId가 비어있습니다.");
+        }
+    }
 
-        Transaction transaction = Transaction.builder()
+    private Transaction newProcessingTransaction(TransferEvent event, Accounts fromAccount, Accounts toAccount) {
+        return Transaction.builder()
                 .requestId(event.getRequestId())
                 .senderAccount(fromAccount)
                 .receiverAccount(toAccount)
@@ -89,16 +500,13 @@ public class TransactionServiceImpl implements TransactionService {
                 .status(TransactionStatus.PROCESSING)
                 .description("송금 처리중")
                 .build();
+    }
 
+    // 한도/잔액 검증 후 잔액을 변경하고 결과를 기록 (호출자가 두 계좌의 락을 보유해야 함)
+    private Transaction executeTransfer(TransferEvent event, Transaction transaction, Accounts fromAccount, Accounts toAccount) {
+        long startedAt = System.nanoTime();
         try {
-            transactionRepository.save(transaction);
-        } catch (DataIntegrityViolationException e) {
-            return transactionRepository.findByRequestId(event.getRequestId())
-                    .orElseThrow(() -> e);
-        }
-
-        try {
-            TransferLimit transferLimit = transferLimitRepository.findByUserId(fromAccount.getUser().getUserId())
+            TransferLimitCache.Limits transferLimit = transferLimitCache.get(fromAccount.getUser().getUserId())
                     .orElseThrow(() -> new CustomNotFoundException("송금 한도 정보를 찾을 수 없습니다."));
 
             if (event.getAmount() == null || event.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
@@ -109,78 +517,93 @@ public class TransactionServiceImpl implements TransactionService {
                 throw new IllegalArgumentException("동일한 계좌로 송금할 수 없습니다.");
             }
 
-            if (fromAccount.getBalance().compareTo(event.getAmount()) < 0) {
+            if (hotAccountBalanceService.getAvailableBalance(fromAccount).compareTo(event.getAmount()) < 0) {
                 throw new IllegalArgumentException("잔액 부족으로 송금할 수 없습니다.");
             }
 
-            if (event.getAmount().compareTo(transferLimit.getPerTransactionLimit()) > 0) {
+            if (event.getAmount().compareTo(transferLimit.perTransactionLimit()) > 0) {
                 throw new TransferLimitExceededException("1회 송금 한도를 초과했습니다.");
             }
 
-            BigDecimal todayTotalTransfers = transactionRepository.sumTodayTransactionBySender(fromAccount.getAccountId(), LocalDate.now());
-            if (todayTotalTransfers == null) {
-                todayTotalTransfers = BigDecimal.ZERO;
-            }
-            if (todayTotalTransfers.add(event.getAmount()).compareTo(transferLimit.getDailyLimit()) > 0) {
+            // 일일 누적 송금액은 카운터 행 단건 조회로 확인 (송금 계좌 락으로 직렬화됨)
+            DailyTransferSpend todaySpend = dailySpendCounter.getCounter(fromAccount.getAccountId(), LocalDate.now());
+            if (todaySpend.getAmount().add(event.getAmount()).compareTo(transferLimit.dailyLimit()) > 0) {
                 throw new TransferLimitExceededException("하루 송금 한도를 초과했습니다.");
             }
+            long persistenceStartedAt = System.nanoTime();
+            latencyMetrics.record(TransferStage.VALIDATION, persistenceStartedAt - startedAt);
 
-            fromAccount.setBalance(fromAccount.getBalance().subtract(event.getAmount()));
-            toAccount.setBalance(toAccount.getBalance().add(event.getAmount()));
+            hotAccountBalanceService.debit(fromAccount, event.getAmount());
+            hotAccountBalanceService.credit(toAccount, event.getAmount());
 
             accountRepository.save(fromAccount);
-            accountRepository.save(toAccount);
+            if (!toAccount.isHotAccount()) {
+                accountRepository.save(toAccount);
+            }
+            dailySpendCounter.add(todaySpend, event.getAmount());
 
             transaction.setStatus(TransactionStatus.SUCCESS);
             transaction.setDescription("송금 완료");
             Transaction saved = transactionRepository.save(transaction);
+            ledgerWriter.recordTransfer(fromAccount.getAccountId(), toAccount.getAccountId(), event.getAmount(),
+                    saved.getTransactionId(), event.getRequestId(), LedgerEntryReason.TRANSFER);
+            rollupWriter.recordTransaction(saved.getTransactionDate(), TransactionStatus.SUCCESS, event.getAmount());
 
-            // 알림/학습데이터 저장은 송금 성공을 깨지 않도록 분리(실패시 로그만 남김)
-            try {
-                User sender = fromAccount.getUser();
-                User receiver = toAccount.getUser();
-
-                if (isEmailNotificationEnabled(sender)) {
-                    notificationService.sendMail(
-                            sender.getEmail(),
-                            event.getAmount().longValue(),
-                            receiver.getName()
-                    );
-                }
-            } catch (Exception notifyError) {
-                errorLogService.logError("Notification", "이메일 발송 실패: " + notifyError.getMessage(), ErrorLogStatus.UNRESOLVED);
-            }
-
-            try {
-                if (event.isCategoryManuallyEdited()) {
-                    TrainingData trainingData = new TrainingData();
-                    trainingData.setMemo(event.getMemo());
-                    trainingData.setReceiverName(toAccount.getUser().getName());
-                    trainingData.setCategory(event.getCategory());
-                    trainingDataRepository.save(trainingData);
-                }
-            } catch (Exception trainingError) {
-                errorLogService.logError("TrainingData", "학습데이터 저장 실패: " + trainingError.getMessage(), ErrorLogStatus.UNRESOLVED);
-            }
+            // 메일/학습데이터/실시간 전송은 아웃박스에 기록만 하고 디스패처가 락 해제 후 비동기 처리
+            publishOutboxEvents(event, saved, fromAccount, toAccount, startedAt);
+            latencyMetrics.recordIncludingCommit(TransferStage.PERSISTENCE, System.nanoTime() - persistenceStartedAt);
 
             return saved;
         } catch (CustomNotFoundException | TransferLimitExceededException | IllegalArgumentException e) {
             transaction.setStatus(TransactionStatus.FAILED);
             transaction.setDescription(e.getMessage());
             transactionRepository.save(transaction);
+            rollupWriter.recordTransaction(transaction.getTransactionDate(), TransactionStatus.FAILED, transaction.getAmount());
             errorLogService.logError("Transaction Service", e.getMessage(), ErrorLogStatus.UNRESOLVED);
+            publishOutboxEvents(event, transaction, fromAccount, toAccount, startedAt);
             return transaction;
+        } catch (OptimisticLockingFailureException e) {
+            // 동시 갱신 충돌은 상위 재시도 루프에서 처리
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            // requestId 중복은 processTransfer 가 기존 거래를 반환하므로 에러 로그를 남기지 않음
+            throw e;
         } catch (Exception e) {
             errorLogService.logError("Transaction Service", "알수 없는 오류 발생:" + e.getMessage(), ErrorLogStatus.UNRESOLVED);
             throw e;
         }
     }
 
-    private boolean isEmailNotificationEnabled(User user) {
-        return notificationRepository
-                .findByUserAndNotificationType(user, NotificationType.EMAIL)
-                .map(Notification::getIsEnabled)
-                .orElse(false);
+    private void publishOutboxEvents(TransferEvent event, Transaction transaction, Accounts fromAccount, Accounts toAccount, long startedAt) {
+        User sender = fromAccount.getUser();
+        User receiver = toAccount.getUser();
+        TransferOutboxPayload payload = TransferOutboxPayload.builder()
+                .transactionId(transaction.getTransactionId())
+                .requestId(transaction.getRequestId())
+                .status(transaction.getStatus().name())
+                .amount(transaction.getAmount())
+                .senderUserId(sender.getUserId())
+                .senderName(sender.getName())
+                .senderEmail(sender.getEmail())
+                .receiverUserId(receiver.getUserId())
+                .receiverName(receiver.getName())
+                .memo(event.getMemo())
+                .category(event.getCategory())
+                .occurredAt(LocalDateTime.now())
+                .processingMs((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+        String aggregateId = transaction.getRequestId();
+
+        if (transaction.getStatus() == TransactionStatus.SUCCESS) {
+            outboxPublisher.publish(TransferOutboxEvents.MAIL, aggregateId, payload);
+            if (event.isCategoryManuallyEdited()) {
+                outboxPublisher.publish(TransferOutboxEvents.TRAINING_DATA, aggregateId, payload);
+            }
+        }
+        outboxPublisher.publish(TransferOutboxEvents.REALTIME, aggregateId, payload);
+
+        // 상태 대기 중인 사용자(SSE/long-poll)에게는 커밋 직후 바로 전달
+        applicationEventPublisher.publishEvent(new TransferCompletedEvent(sender.getUserId(), sender.getName(), transaction));
     }
 
     @Override
@@ -196,14 +619,22 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public Transaction getTransactionByRequestId(String requestId) {
-        return transactionRepository.findByRequestId(requestId)
+        // 상태 폴링은 최근 완료 거래 LRU 에서 먼저 응답
+        return idempotencyGuard.getCompleted(requestId)
+                .or(() -> transactionRepository.findByRequestId(requestId))
                 .orElseThrow(() -> new CustomNotFoundException("거래 내역을 찾을 수 없습니다. : " + requestId));
     }
 
     // 거래 취소
     @Override
-    @Transactional
     public void cancelTransaction(Long transactionId) {
+        executeWithConcurrencyControl(() -> {
+            doCancelTransaction(transactionId);
+            return null;
+        });
+    }
+
+    private void doCancelTransaction(Long transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new CustomNotFoundException("거래 내역을 찾을 수 없습니다: " + transactionId));
 
@@ -224,24 +655,32 @@ public class TransactionServiceImpl implements TransactionService {
         // 동시성 대비 (취소도 잔액 조정이므로 락)
         Long firstLockId = sender.getAccountId() <= receiver.getAccountId() ? sender.getAccountId() : receiver.getAccountId();
         Long secondLockId = sender.getAccountId() <= receiver.getAccountId() ? receiver.getAccountId() : sender.getAccountId();
-        accountRepository.findByIdForUpdate(firstLockId)
-                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
-        accountRepository.findByIdForUpdate(secondLockId)
-                .orElseThrow(() -> new CustomNotFoundException("계좌를 찾을 수 없습니다."));
+        loadAccountForUpdate(firstLockId);
+        loadAccountForUpdate(secondLockId);
 
-        if (receiver.getBalance().compareTo(transaction.getAmount()) < 0) {
+        if (hotAccountBalanceService.getAvailableBalance(receiver).compareTo(transaction.getAmount()) < 0) {
             throw new IllegalArgumentException("수신 계좌 잔액 부족으로 취소할 수 없습니다.");
         }
 
         // 💡 취소 시 원래대로 돌려놓음
-        sender.setBalance(sender.getBalance().add(transaction.getAmount()));
-        receiver.setBalance(receiver.getBalance().subtract(transaction.getAmount()));
+        hotAccountBalanceService.credit(sender, transaction.getAmount());
+        hotAccountBalanceService.debit(receiver, transaction.getAmount());
 
         accountRepository.save(sender);
         accountRepository.save(receiver);
 
+        // 원거래 일자의 누적 송금액에서 차감
+        LocalDate transactionDay = transaction.getTransactionDate().toLocalDateTime().toLocalDate();
+        DailyTransferSpend spend = dailySpendCounter.getCounter(sender.getAccountId(), transactionDay);
+        dailySpendCounter.subtract(spend, transaction.getAmount());
+
+        // 원거래의 반대 분개
+        ledgerWriter.recordTransfer(receiver.getAccountId(), sender.getAccountId(), transaction.getAmount(),
+                transaction.getTransactionId(), transaction.getRequestId(), LedgerEntryReason.CANCEL);
+
         transaction.setStatus(TransactionStatus.CANCELLED);
-        transactionRepository.save(transaction);
+        rollupWriter.recordTransactionStatusChange(transaction.getTransactionDate(), TransactionStatus.SUCCESS, TransactionStatus.CANCELLED, transaction.getAmount());
+        idempotencyGuard.recordCompleted(transactionRepository.save(transaction));
     }
 
     @Override
@@ -0,0 +1,19 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Optional;
+
+// 배치 송금 처리 결과 (실패 건은 배치 내 인덱스 기준으로 보관)
+@Getter
+@AllArgsConstructor
+public class TransferBatchResult {
+    private final int appliedCount;
+    private final Map<Integer, RuntimeException> failures;
+
+    public Optional<Map.Entry<Integer, RuntimeException>> firstFailure() {
+        return failures.entrySet().stream().findFirst();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.model.user.Transaction;
+
+// 송금 처리 결과(SUCCESS/FAILED) 확정 이벤트 - 커밋 후 TransferStatusNotifier 가 구독자에게 전달
+public record TransferCompletedEvent(Long senderUserId, String senderName, Transaction transaction) {
+}
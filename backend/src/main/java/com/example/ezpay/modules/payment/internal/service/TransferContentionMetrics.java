@@ -0,0 +1,83 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.modules.payment.api.dto.TransferContentionStats;
+import com.example.ezpay.shared.common.enums.TransferConcurrencyMode;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 송금 동시성 제어 방식별 경합 지표 (비관적/낙관적 모드 비교용)
+@Component
+public class TransferContentionMetrics {
+
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder optimisticConflicts = new LongAdder();
+    private final LongAdder retriesExhausted = new LongAdder();
+    private final LongAdder lockAcquisitions = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final AtomicLong maxLockWaitNanos = new AtomicLong();
+    private final LongAdder backoffs = new LongAdder();
+    private final LongAdder backoffMillis = new LongAdder();
+
+    public void recordAttempt() {
+        attempts.increment();
+    }
+
+    public void recordCommitted() {
+        transactions.increment();
+    }
+
+    public void recordConflict() {
+        optimisticConflicts.increment();
+    }
+
+    public void recordExhausted() {
+        retriesExhausted.increment();
+    }
+
+    public void recordBackoff(long millis) {
+        backoffs.increment();
+        backoffMillis.add(millis);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockAcquisitions.increment();
+        lockWaitNanos.add(nanos);
+        maxLockWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public TransferContentionStats snapshot(TransferConcurrencyMode mode) {
+        long attemptCount = attempts.sum();
+        long conflictCount = optimisticConflicts.sum();
+        long lockCount = lockAcquisitions.sum();
+        long backoffCount = backoffs.sum();
+
+        return new TransferContentionStats(
+                mode.name(),
+                transactions.sum(),
+                attemptCount,
+                conflictCount,
+                retriesExhausted.sum(),
+                attemptCount == 0 ? 0.0 : (double) conflictCount / attemptCount,
+                lockCount,
+                lockCount == 0 ? 0.0 : lockWaitNanos.sum() / 1_000_000.0 / lockCount,
+                maxLockWaitNanos.get() / 1_000_000.0,
+                backoffCount == 0 ? 0.0 : (double) backoffMillis.sum() / backoffCount
+        );
+    }
+
+    // 벤치마크 구간을 나눠 측정할 때 사용
+    public void reset() {
+        transactions.reset();
+        attempts.reset();
+        optimisticConflicts.reset();
+        retriesExhausted.reset();
+        lockAcquisitions.reset();
+        lockWaitNanos.reset();
+        maxLockWaitNanos.set(0);
+        backoffs.reset();
+        backoffMillis.reset();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.model.user.Transaction;
+import com.example.ezpay.repository.user.TransactionRepository;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import com.example.ezpay.shared.util.RollingBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * requestId 멱등성 검사 앞단의 인메모리 가드
+ * - 최근 완료된 거래는 LRU 에서 바로 응답 (상태 폴링 포함)
+ * - 보존 기간 내 본 적 없는 requestId 는 Bloom filter 로 판별해 DB 조회를 생략
+ * - Bloom filter 가 "있을 수 있음"이면 기존처럼 DB 조회
+ * 다른 인스턴스가 처리한 requestId 를 놓치더라도 transactions.requestId 유니크 제약이 최종 방어선이다.
+ */
+@Slf4j
+@Component
+public class TransferIdempotencyGuard {
+
+    private static final int WARM_UP_PAGE_SIZE = 5000;
+
+    private final TransactionRepository transactionRepository;
+    private final boolean enabled;
+    private final int lruSize;
+    private final Duration retention;
+    private final RollingBloomFilter seenRequestIds;
+    private final Map<String, Transaction> completed;
+
+    // 워밍업 전에는 Bloom filter 가 비어 있으므로 항상 DB 조회
+    private volatile boolean warmedUp = false;
+
+    public TransferIdempotencyGuard(TransactionRepository transactionRepository,
+                                    @Value("${ezpay.payment.idempotency.enabled:true}") boolean enabled,
+                                    @Value("${ezpay.payment.idempotency.lru-size:10000}") int lruSize,
+                                    @Value("${ezpay.payment.idempotency.retention-hours:24}") long retentionHours,
+                                    @Value("${ezpay.payment.idempotency.expected-requests:1000000}") long expectedRequests,
+                                    @Value("${ezpay.payment.idempotency.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.transactionRepository = transactionRepository;
+        this.enabled = enabled;
+        this.lruSize = lruSize;
+        this.retention = Duration.ofHours(retentionHours);
+        // 세대 하나가 보존 기간의 절반을 담당
+        this.seenRequestIds = new RollingBloomFilter(Math.max(1, expectedRequests / 2), falsePositiveRate);
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Transaction> eldest) {
+                return size() > TransferIdempotencyGuard.this.lruSize;
+            }
+        };
+    }
+
+    // 이미 처리된 거래 조회 (LRU -> Bloom filter -> DB 순)
+    public Optional<Transaction> findProcessed(String requestId) {
+        Optional<Transaction> cached = getCompleted(requestId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        boolean possiblySeen = mightBeProcessed(requestId);
+        markSeen(requestId);
+        return possiblySeen ? transactionRepository.findByRequestId(requestId) : Optional.empty();
+    }
+
+    public boolean mightBeProcessed(String requestId) {
+        return !enabled || !warmedUp || seenRequestIds.mightContain(requestId);
+    }
+
+    public void markSeen(String requestId) {
+        if (enabled) {
+            seenRequestIds.put(requestId);
+        }
+    }
+
+    public Optional<Transaction> getCompleted(String requestId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        synchronized (completed) {
+            return Optional.ofNullable(completed.get(requestId));
+        }
+    }
+
+    // 처리 중(PROCESSING)이 아닌 거래만 커밋 이후 LRU 에 반영
+    public void recordCompleted(Transaction transaction) {
+        if (!enabled || transaction.getRequestId() == null || transaction.getStatus() == TransactionStatus.PROCESSING) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putCompleted(transaction);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putCompleted(transaction);
+            }
+        });
+    }
+
+    // 보존 기간 내 requestId 로 Bloom filter 를 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Timestamp since = Timestamp.from(Instant.now().minus(retention));
+            long afterId = 0L;
+            long loaded = 0L;
+            List<Object[]> page;
+            do {
+                page = transactionRepository.findRequestIdsSince(since, afterId, PageRequest.of(0, WARM_UP_PAGE_SIZE));
+                for (Object[] row : page) {
+                    afterId = (Long) row[0];
+                    seenRequestIds.put((String) row[1]);
+                }
+                loaded += page.size();
+            } while (page.size() == WARM_UP_PAGE_SIZE);
+
+            warmedUp = true;
+            log.info("송금 멱등성 Bloom filter 워밍업 완료: {}건", loaded);
+        } catch (Exception e) {
+            // 워밍업 실패 시 항상 DB 조회로 동작
+            log.warn("송금 멱등성 Bloom filter 워밍업 실패: {}", e.getMessage());
+        }
+    }
+
+    // 세대 회전 (보존 기간의 절반마다)
+    @Scheduled(fixedRateString = "#{${ezpay.payment.idempotency.retention-hours:24} * 1800000}",
+            initialDelayString = "#{${ezpay.payment.idempotency.retention-hours:24} * 1800000}")
+    public void rotate() {
+        seenRequestIds.rotate();
+    }
+
+    private void putCompleted(Transaction transaction) {
+        synchronized (completed) {
+            completed.put(transaction.getRequestId(), transaction);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.modules.payment.api.dto.TransferStageLatency;
+import com.example.ezpay.shared.common.enums.TransferStage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 송금 파이프라인 구간별 지연 시간 측정
+ * - 구간마다 최근 N개 샘플을 링 버퍼에 보관하고 조회 시 정렬해 p50/p95/p99 를 계산
+ * - 누적 건수/평균/최대값은 초기화 전까지 전체 기간 기준
+ */
+@Component
+public class TransferLatencyMetrics {
+
+    private final Map<TransferStage, StageReservoir> reservoirs = new EnumMap<>(TransferStage.class);
+
+    public TransferLatencyMetrics(@Value("${ezpay.payment.latency.reservoir-size:2048}") int reservoirSize) {
+        for (TransferStage stage : TransferStage.values()) {
+            reservoirs.put(stage, new StageReservoir(reservoirSize));
+        }
+    }
+
+    public void record(TransferStage stage, long nanos) {
+        if (nanos >= 0) {
+            reservoirs.get(stage).record(nanos);
+        }
+    }
+
+    public void recordMillis(TransferStage stage, long millis) {
+        record(stage, millis * 1_000_000L);
+    }
+
+    // 트랜잭션 안에서 측정한 시간에 커밋 소요 시간을 더해 기록 (트랜잭션이 없으면 바로 기록)
+    public void recordIncludingCommit(TransferStage stage, long nanosBeforeCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(stage, nanosBeforeCommit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStartedAt;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStartedAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                record(stage, nanosBeforeCommit + (System.nanoTime() - commitStartedAt));
+            }
+        });
+    }
+
+    public List<TransferStageLatency> snapshot() {
+        return Arrays.stream(TransferStage.values())
+                .map(stage -> reservoirs.get(stage).snapshot(stage))
+                .toList();
+    }
+
+    public void reset() {
+        reservoirs.values().forEach(StageReservoir::reset);
+    }
+
+    private static final class StageReservoir {
+        private final AtomicLongArray samples;
+        private final AtomicLong cursor = new AtomicLong();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private StageReservoir(int size) {
+            this.samples = new AtomicLongArray(Math.max(1, size));
+        }
+
+        private void record(long nanos) {
+            samples.set((int) (cursor.getAndIncrement() % samples.length()), nanos);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private TransferStageLatency snapshot(TransferStage stage) {
+            int filled = (int) Math.min(cursor.get(), samples.length());
+            long[] sorted = new long[filled];
+            for (int i = 0; i < filled; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+
+            long total = count.sum();
+            return new TransferStageLatency(
+                    stage.name(),
+                    total,
+                    total == 0 ? 0.0 : toMillis(totalNanos.sum() / (double) total),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    toMillis(maxNanos.get())
+            );
+        }
+
+        private void reset() {
+            cursor.set(0);
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        }
+
+        private static double toMillis(double nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.repository.user.TransferLimitRepository;
+import com.example.ezpay.shared.util.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 송금 경로에서 쓰는 사용자별 송금 한도 캐시
+ * - 엔티티 대신 한도 값만 담은 불변 스냅샷을 캐시 (스레드 간 공유)
+ * - 한도 변경(TransferLimitServiceImpl)/사용자 삭제 시 evict 로 즉시 + 커밋 직후 두 번 무효화
+ */
+@Component
+public class TransferLimitCache {
+
+    private final TransferLimitRepository transferLimitRepository;
+    private final TtlCache<Long, Limits> cache;
+
+    public TransferLimitCache(TransferLimitRepository transferLimitRepository,
+                              @Value("${ezpay.cache.user-settings.max-size:10000}") int maxSize,
+                              @Value("${ezpay.cache.user-settings.ttl-seconds:300}") long ttlSeconds) {
+        this.transferLimitRepository = transferLimitRepository;
+        this.cache = new TtlCache<>("transferLimit", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public Optional<Limits> get(Long userId) {
+        return cache.get(userId, id -> transferLimitRepository.findByUserId(id)
+                .map(limit -> new Limits(limit.getDailyLimit(), limit.getPerTransactionLimit())));
+    }
+
+    // 변경 트랜잭션 커밋 전 다른 요청이 옛 값을 다시 캐시해도 커밋 직후 한 번 더 지움
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public TtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    public record Limits(BigDecimal dailyLimit, BigDecimal perTransactionLimit) {
+    }
+}
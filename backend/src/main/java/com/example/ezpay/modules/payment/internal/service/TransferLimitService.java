@@ -2,15 +2,22 @@ package com.example.ezpay.modules.payment.internal.service;
 
 import com.example.ezpay.model.user.TransferLimit;
 import com.example.ezpay.modules.payment.api.dto.TransferLimitRequest;
+import com.example.ezpay.repository.user.TransferLimitRepository.TransferLimitOverview;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Payment 모듈 내부 서비스 - 송금 한도 관리
  */
 public interface TransferLimitService {
-    List<TransferLimit> getAllTransferLimits();
+    // 전체 사용자 한도 + date 기준 누적 송금액 (사용자 ID 순)
+    List<TransferLimitOverview> getTransferLimitOverview(LocalDate date);
+    Page<TransferLimitOverview> getTransferLimitOverview(LocalDate date, Pageable pageable);
+
     TransferLimit readUserTransferLimit(Long userId);
     void updateUserTransferLimit(Long userId, TransferLimitRequest transferLimitRequest);
     void resetUserTransferLimit(Long userId);
@@ -1,14 +1,15 @@
 package com.example.ezpay.modules.payment.internal.service;
 
 import com.example.ezpay.shared.exception.CustomNotFoundException;
-import com.example.ezpay.model.user.Transaction;
 import com.example.ezpay.model.user.TransferLimit;
 import com.example.ezpay.model.user.User;
-import com.example.ezpay.repository.user.TransactionRepository;
 import com.example.ezpay.repository.user.TransferLimitRepository;
+import com.example.ezpay.repository.user.TransferLimitRepository.TransferLimitOverview;
 import com.example.ezpay.repository.user.UserRepository;
 import com.example.ezpay.modules.payment.api.dto.TransferLimitRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,14 +22,20 @@ import java.util.List;
 public class TransferLimitServiceImpl implements TransferLimitService {
     private final TransferLimitRepository transferLimitRepository;
     private final UserRepository userRepository;
-    private final TransactionRepository transactionRepository;
+    private final DailySpendCounter dailySpendCounter;
+    private final TransferLimitCache transferLimitCache;
 
     private static final BigDecimal DEFAULT_DAILY_LIMIT = new BigDecimal("1000000.00");
     private static final BigDecimal DEFAULT_TRANSACTION_LIMIT = new BigDecimal("100000.00");
 
     @Override
-    public List<TransferLimit> getAllTransferLimits() {
-        return transferLimitRepository.findAll();
+    public List<TransferLimitOverview> getTransferLimitOverview(LocalDate date) {
+        return transferLimitRepository.findOverview(date);
+    }
+
+    @Override
+    public Page<TransferLimitOverview> getTransferLimitOverview(LocalDate date, Pageable pageable) {
+        return transferLimitRepository.findOverview(date, pageable);
     }
 
     @Override
@@ -46,6 +53,7 @@ public class TransferLimitServiceImpl implements TransferLimitService {
         transferLimit.setDailyLimit(transferLimitRequest.getDailyLimit());
         transferLimit.setPerTransactionLimit(transferLimitRequest.getPerTransactionLimit());
         transferLimitRepository.save(transferLimit);
+        transferLimitCache.evict(userId);
     }
 
     @Override
@@ -57,6 +65,7 @@ public class TransferLimitServiceImpl implements TransferLimitService {
         transferLimit.setDailyLimit(DEFAULT_DAILY_LIMIT);
         transferLimit.setPerTransactionLimit(DEFAULT_TRANSACTION_LIMIT);
         transferLimitRepository.save(transferLimit);
+        transferLimitCache.evict(userId);
     }
 
     @Override
@@ -76,15 +85,10 @@ public class TransferLimitServiceImpl implements TransferLimitService {
             return BigDecimal.ZERO;
         }
 
-        // 사용자의 모든 계좌에서 오늘 송금한 총액 계산
+        // 사용자의 모든 계좌에서 오늘 송금한 총액 계산 (계좌별 일일 카운터 사용)
+        LocalDate today = LocalDate.now();
         BigDecimal todayTotal = user.getAccounts().stream()
-                .map(account -> {
-                    BigDecimal total = transactionRepository.sumTodayTransactionBySender(
-                            account.getAccountId(),
-                            LocalDate.now()
-                    );
-                    return total != null ? total : BigDecimal.ZERO;
-                })
+                .map(account -> dailySpendCounter.getSpent(account.getAccountId(), today))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         BigDecimal remaining = transferLimit.getDailyLimit().subtract(todayTotal);
@@ -0,0 +1,118 @@
+package com.example.ezpay.modules.payment.internal.service;
+
+import com.example.ezpay.model.user.Transaction;
+import com.example.ezpay.model.user.User;
+import com.example.ezpay.modules.payment.api.dto.TransferStatusUpdate;
+import com.example.ezpay.modules.realtime.EventBroadcaster;
+import com.example.ezpay.modules.realtime.sse.SseEmitterRegistry;
+import com.example.ezpay.repository.user.UserRepository;
+import com.example.ezpay.shared.common.dto.CommonResponse;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import com.example.ezpay.shared.exception.CustomNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 송금 처리 결과를 폴링 없이 전달
+ * - SSE: 사용자별 채널(transfer-status:{userId})로 커밋 직후 결과 전송
+ * - long-poll: requestId 별 DeferredResult 를 결과 커밋 시점에 완료
+ * 구독/대기 상태는 인스턴스 메모리에만 있으므로, 다른 인스턴스에서 처리된 건은 long-poll 타임아웃 후 재조회로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferStatusNotifier {
+
+    private static final String CHANNEL_PREFIX = "transfer-status:";
+
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final EventBroadcaster eventBroadcaster;
+    private final UserRepository userRepository;
+    private final TransactionService transactionService;
+
+    @Value("${ezpay.payment.status.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    private final Map<String, Set<DeferredResult<ResponseEntity<CommonResponse<Transaction>>>>> waiters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomNotFoundException("사용자를 찾을 수 없습니다."));
+        return sseEmitterRegistry.register(CHANNEL_PREFIX + user.getUserId());
+    }
+
+    // 결과가 이미 있으면 즉시, 없으면 커밋 시점 또는 waitMs 경과 시(202) 응답
+    public DeferredResult<ResponseEntity<CommonResponse<Transaction>>> awaitCompletion(String requestId, long waitMs) {
+        long timeoutMs = Math.max(1, Math.min(waitMs, maxWaitMs)); // 0 은 서블릿에서 무제한 대기로 해석됨
+        DeferredResult<ResponseEntity<CommonResponse<Transaction>>> result = new DeferredResult<>(timeoutMs,
+                () -> ResponseEntity.status(HttpStatus.ACCEPTED).body(new CommonResponse<>("success", null, "TRANSFER_PENDING")));
+
+        // 조회보다 먼저 등록해야 조회와 커밋 사이에 끝난 건을 놓치지 않음
+        waiters.compute(requestId, (key, results) -> {
+            Set<DeferredResult<ResponseEntity<CommonResponse<Transaction>>>> registered = results != null ? results : ConcurrentHashMap.newKeySet();
+            registered.add(result);
+            return registered;
+        });
+        result.onCompletion(() -> removeWaiter(requestId, result));
+
+        findCompleted(requestId).ifPresent(transaction -> result.setResult(toResponse(transaction)));
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransferCompleted(TransferCompletedEvent event) {
+        Transaction transaction = event.transaction();
+
+        Set<DeferredResult<ResponseEntity<CommonResponse<Transaction>>>> pending = waiters.remove(transaction.getRequestId());
+        if (pending != null) {
+            pending.forEach(result -> result.setResult(toResponse(transaction)));
+        }
+
+        try {
+            eventBroadcaster.broadcastToSse(CHANNEL_PREFIX + event.senderUserId(), new TransferStatusUpdate(
+                    transaction.getRequestId(),
+                    transaction.getTransactionId(),
+                    transaction.getStatus().name(),
+                    transaction.getDescription(),
+                    transaction.getAmount(),
+                    LocalDateTime.now()
+            ));
+        } catch (Exception e) {
+            log.warn("송금 상태 SSE 전송 실패: requestId={}, error={}", transaction.getRequestId(), e.getMessage());
+        }
+    }
+
+    private Optional<Transaction> findCompleted(String requestId) {
+        try {
+            Transaction transaction = transactionService.getTransactionByRequestId(requestId);
+            return transaction.getStatus() == TransactionStatus.PROCESSING ? Optional.empty() : Optional.of(transaction);
+        } catch (CustomNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void removeWaiter(String requestId, DeferredResult<ResponseEntity<CommonResponse<Transaction>>> result) {
+        waiters.computeIfPresent(requestId, (key, results) -> {
+            results.remove(result);
+            return results.isEmpty() ? null : results;
+        });
+    }
+
+    private static ResponseEntity<CommonResponse<Transaction>> toResponse(Transaction transaction) {
+        return ResponseEntity.ok(new CommonResponse<>("success", transaction, "송금 조회 성공"));
+    }
+}
@@ -1,17 +1,18 @@
 package com.example.ezpay.modules.realtime.scheduler;
 
 import com.example.ezpay.modules.admin.api.dto.RecentActivityLog;
-import com.example.ezpay.modules.admin.internal.service.AdminService;
+import com.example.ezpay.modules.admin.internal.service.DashboardSnapshotService;
+import com.example.ezpay.modules.dashboard.service.RecentActivityBuffer;
+import com.example.ezpay.modules.payment.internal.service.TransactionService;
 import com.example.ezpay.modules.realtime.EventBroadcaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
-// TPS 메트릭과 최근 활동을 주기적으로 SSE(metricsApi.ts)로 브로드캐스트
+// 대시보드 스냅샷(TPS 포함), 송금 구간별 지연 시간, 최근 활동을 주기적으로 SSE(metricsApi.ts)로 브로드캐스트
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,36 +20,50 @@ public class DashboardStreamScheduler {
 
     private static final String SSE_CHANNEL_TPS_METRICS = "tps-metrics";
     private static final String SSE_CHANNEL_ACTIVITIES = "activities";
+    private static final String SSE_CHANNEL_TRANSFER_LATENCY = "transfer-latency";
 
-    private final AdminService adminService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final TransactionService transactionService;
     private final EventBroadcaster eventBroadcaster;
 
-    private volatile LocalDateTime lastBroadcastActivityTimestamp;
+    private final RecentActivityBuffer recentActivityBuffer;
 
-    @Scheduled(fixedRate = 3000)
+    private volatile long lastBroadcastActivitySequence;
+
+    // 스냅샷을 주기마다 한 번 계산해 전송 (같은 주기의 REST 조회는 이 스냅샷을 공유)
+    @Scheduled(fixedDelayString = "${ezpay.dashboard.snapshot.interval-ms:3000}")
     public void broadcastTpsMetrics() {
         try {
-            eventBroadcaster.broadcastToSse(SSE_CHANNEL_TPS_METRICS, adminService.getTPSMetrics());
+            eventBroadcaster.broadcastToSse(SSE_CHANNEL_TPS_METRICS, dashboardSnapshotService.refresh());
         } catch (Exception e) {
-            log.error("TPS 메트릭 브로드캐스트 실패: {}", e.getMessage());
+            log.error("대시보드 스냅샷 브로드캐스트 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedRate = 2000)
+    public void broadcastTransferLatency() {
+        try {
+            eventBroadcaster.broadcastToSse(SSE_CHANNEL_TRANSFER_LATENCY, transactionService.getLatencyStats());
+        } catch (Exception e) {
+            log.error("송금 지연 시간 브로드캐스트 실패: {}", e.getMessage());
         }
     }
 
     @Scheduled(fixedRate = 5000)
     public void broadcastRecentActivity() {
         try {
-            List<RecentActivityLog> activities = adminService.getRecentActivities(1);
-            if (activities.isEmpty()) {
+            // 활동 버퍼에서 읽으므로 DB 조회 없음, 마지막 전송 이후 새 활동이 있을 때만 전송
+            long sequence = recentActivityBuffer.lastSequence();
+            if (sequence == lastBroadcastActivitySequence) {
                 return;
             }
-
-            RecentActivityLog latest = activities.get(0);
-            if (latest.getTimestamp() != null && latest.getTimestamp().equals(lastBroadcastActivityTimestamp)) {
+            List<RecentActivityLog> activities = recentActivityBuffer.latest(1);
+            if (activities.isEmpty()) {
                 return;
             }
 
-            lastBroadcastActivityTimestamp = latest.getTimestamp();
-            eventBroadcaster.broadcastToSse(SSE_CHANNEL_ACTIVITIES, latest);
+            lastBroadcastActivitySequence = sequence;
+            eventBroadcaster.broadcastToSse(SSE_CHANNEL_ACTIVITIES, activities.get(0));
         } catch (Exception e) {
             log.error("활동 로그 브로드캐스트 실패: {}", e.getMessage());
         }
@@ -10,7 +10,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
-// 채널(system-logs, tps-metrics, activities)별로 SseEmitter를 관리하고 브로드캐스트하는 컴포넌트
+// 채널(system-logs, tps-metrics, activities, transfer-latency, transfer-status:{userId})별로 SseEmitter를 관리하고 브로드캐스트하는 컴포넌트
 @Slf4j
 @Component
 public class SseEmitterRegistry {
@@ -22,8 +22,12 @@ public class SseEmitterRegistry {
 
     public SseEmitter register(String channel) {
         SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
-        Set<SseEmitter> emitters = channelEmitters.computeIfAbsent(channel, k -> ConcurrentHashMap.newKeySet());
-        emitters.add(emitter);
+        // 빈 채널 정리(remove)와 경합하지 않도록 compute 안에서 등록
+        channelEmitters.compute(channel, (k, emitters) -> {
+            Set<SseEmitter> registered = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            registered.add(emitter);
+            return registered;
+        });
 
         emitter.onCompletion(() -> remove(channel, emitter));
         emitter.onTimeout(() -> remove(channel, emitter));
@@ -60,10 +64,11 @@ public class SseEmitterRegistry {
         }
     }
 
+    // 사용자별 채널(transfer-status:{userId})이 계속 쌓이지 않도록 마지막 구독자가 나가면 채널도 제거
     private void remove(String channel, SseEmitter emitter) {
-        Set<SseEmitter> emitters = channelEmitters.get(channel);
-        if (emitters != null) {
+        channelEmitters.computeIfPresent(channel, (k, emitters) -> {
             emitters.remove(emitter);
-        }
+            return emitters.isEmpty() ? null : emitters;
+        });
     }
 }
@@ -1,5 +1,6 @@
 package com.example.ezpay.modules.risk.entity;
 
+import com.example.ezpay.shared.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -21,7 +22,8 @@ import java.time.LocalDateTime;
 public class RiskTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_transactions_seq")
+    @SequenceGenerator(name = "risk_transactions_seq", sequenceName = "risk_transactions_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 64)
@@ -17,5 +17,7 @@ public interface RiskTransactionService {
 
     RiskTransaction save(RiskTransaction riskTransaction);
 
+    List<RiskTransaction> saveAll(List<RiskTransaction> riskTransactions);
+
     RiskLevel parseFilter(String filter);
 }
@@ -60,6 +60,15 @@ public class RiskTransactionServiceImpl implements RiskTransactionService {
         return saved;
     }
 
+    // 한 트랜잭션에서 저장해 insert 가 JDBC 배치로 묶이도록 함
+    @Override
+    @Transactional
+    public List<RiskTransaction> saveAll(List<RiskTransaction> riskTransactions) {
+        List<RiskTransaction> saved = riskTransactionRepository.saveAll(riskTransactions);
+        saved.forEach(riskTransaction -> eventBroadcaster.broadcastToTopic(TOPIC_RISK_TRANSACTIONS, RiskTransactionInfo.from(riskTransaction)));
+        return saved;
+    }
+
     @Override
     public RiskLevel parseFilter(String filter) {
         if (filter == null || filter.isBlank() || "전체".equals(filter) || "ALL".equalsIgnoreCase(filter)) {
@@ -1,5 +1,6 @@
 package com.example.ezpay.modules.systemlog.entity;
 
+import com.example.ezpay.shared.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -20,7 +21,8 @@ import java.time.LocalDateTime;
 public class SystemLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "system_logs_seq")
+    @SequenceGenerator(name = "system_logs_seq", sequenceName = "system_logs_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -10,4 +10,6 @@ public interface SystemLogService {
     List<SystemLogInfo> getRecentLogs(int limit);
 
     SystemLog save(SystemLog systemLog);
+
+    List<SystemLog> saveAll(List<SystemLog> systemLogs);
 }
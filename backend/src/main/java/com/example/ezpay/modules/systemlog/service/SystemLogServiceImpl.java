@@ -1,5 +1,6 @@
 package com.example.ezpay.modules.systemlog.service;
 
+import com.example.ezpay.modules.dashboard.service.RecentActivityBuffer;
 import com.example.ezpay.modules.realtime.EventBroadcaster;
 import com.example.ezpay.modules.systemlog.dto.SystemLogInfo;
 import com.example.ezpay.modules.systemlog.entity.SystemLog;
@@ -19,6 +20,7 @@ public class SystemLogServiceImpl implements SystemLogService {
 
     private final SystemLogRepository systemLogRepository;
     private final EventBroadcaster eventBroadcaster;
+    private final RecentActivityBuffer recentActivityBuffer;
 
     @Override
     @Transactional(readOnly = true)
@@ -34,6 +36,19 @@ public class SystemLogServiceImpl implements SystemLogService {
     public SystemLog save(SystemLog systemLog) {
         SystemLog saved = systemLogRepository.save(systemLog);
         eventBroadcaster.broadcastToSse(SSE_CHANNEL_SYSTEM_LOGS, SystemLogInfo.from(saved));
+        recentActivityBuffer.recordSystemLog(saved);
+        return saved;
+    }
+
+    // 한 트랜잭션에서 저장해 insert 가 JDBC 배치로 묶이도록 함
+    @Override
+    @Transactional
+    public List<SystemLog> saveAll(List<SystemLog> systemLogs) {
+        List<SystemLog> saved = systemLogRepository.saveAll(systemLogs);
+        saved.forEach(systemLog -> {
+            eventBroadcaster.broadcastToSse(SSE_CHANNEL_SYSTEM_LOGS, SystemLogInfo.from(systemLog));
+            recentActivityBuffer.recordSystemLog(systemLog);
+        });
         return saved;
     }
 }
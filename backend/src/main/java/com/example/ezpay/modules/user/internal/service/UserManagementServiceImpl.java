@@ -3,6 +3,9 @@ package com.example.ezpay.modules.user.internal.service;
 import com.example.ezpay.model.user.Accounts;
 import com.example.ezpay.model.user.LoginHistory;
 import com.example.ezpay.model.user.User;
+import com.example.ezpay.modules.dashboard.service.DashboardRollupWriter;
+import com.example.ezpay.modules.notification.internal.service.NotificationPreferenceCache;
+import com.example.ezpay.modules.payment.internal.service.TransferLimitCache;
 import com.example.ezpay.modules.user.api.dto.LoginHistoryInfo;
 import com.example.ezpay.modules.user.api.dto.UserInfo;
 import com.example.ezpay.modules.user.api.dto.UserUpdateRequest;
@@ -30,6 +33,9 @@ public class UserManagementServiceImpl implements UserManagementService {
     private final NotificationRepository notificationRepository;
     private final AccountRepository accountRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final TransferLimitCache transferLimitCache;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final DashboardRollupWriter rollupWriter;
 
     @Override
     @Transactional(readOnly = true)
@@ -84,6 +90,8 @@ public class UserManagementServiceImpl implements UserManagementService {
         // 연관 데이터 삭제
         transferLimitRepository.deleteByUser_UserId(user.getUserId());
         notificationRepository.deleteByUser(user);
+        transferLimitCache.evict(user.getUserId());
+        notificationPreferenceCache.evict(user.getUserId());
 
         List<Accounts> accounts = accountRepository.findByUser(user);
         for (Accounts account : accounts) {
@@ -93,6 +101,7 @@ public class UserManagementServiceImpl implements UserManagementService {
 
         loginHistoryRepository.deleteByUser_UserId(user.getUserId());
         userRepository.deleteById(userId);
+        rollupWriter.recordUserStatusChange(user.getStatus(), null);
     }
 
     @Override
@@ -1,9 +1,13 @@
 package com.example.ezpay.repository.queryDSL;
 
 import com.example.ezpay.model.user.Transaction;
+import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
+import com.example.ezpay.shared.common.enums.TimeBucket;
+import com.example.ezpay.shared.common.enums.TransactionStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TransactionRepositoryCustom {
@@ -14,4 +18,26 @@ public interface TransactionRepositoryCustom {
     List<Transaction> findReceivedTransactions(Long receiverAccountId);
 
     BigDecimal sumTodayTransactionBySender(Long senderAccountId, LocalDate today);
+
+    // [from, to) 거래를 버킷 단위로 묶은 건수/금액 (거래가 없는 버킷은 포함되지 않음, status 가 null 이면 전체 상태)
+    List<BucketStats> countByTimeBucket(TimeBucket bucket, LocalDateTime from, LocalDateTime to, TransactionStatus status);
+
+    // (거래 일시, 거래 ID) 역순 키셋 페이지: after 이후(더 오래된) 거래를 최대 limit 건 (after 가 null 이면 첫 페이지)
+    List<TransactionInfo> searchByKeyset(TransactionSearchCondition condition, Keyset after, int limit);
+
+    // 사용자(소유 계좌 전체)의 거래, 최신순 (거래 일시, 거래 ID 역순)
+    List<TransactionInfo> findUserTransactions(Long userId, long offset, int limit);
+
+    // 사용자(소유 계좌 전체)의 상태별 거래 건수/금액
+    List<StatusStats> summarizeUserTransactions(Long userId);
+
+    record BucketStats(LocalDateTime bucketStart, long count, BigDecimal volume) {
+    }
+
+    record StatusStats(TransactionStatus status, long count, BigDecimal volume) {
+    }
+
+    // 키셋 페이지 경계 (마지막으로 읽은 거래)
+    record Keyset(LocalDateTime transactionDate, long transactionId) {
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.ezpay.repository.queryDSL;
+
+import com.example.ezpay.shared.common.enums.TransactionStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 관리자 거래 조회 필터 (null 인 조건은 적용하지 않음)
+@Getter
+@Builder
+public class TransactionSearchCondition {
+    private TransactionStatus status;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Long accountId;           // 송금 또는 수신 계좌
+    private String category;
+    private LocalDateTime from;       // 거래 일시 하한 (포함)
+    private LocalDateTime to;         // 거래 일시 상한 (제외)
+}
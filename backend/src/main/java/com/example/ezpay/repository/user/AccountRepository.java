@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,23 @@ public interface AccountRepository extends JpaRepository<Accounts, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select a from Accounts a where a.accountId = :accountId")
     Optional<Accounts> findByIdForUpdate(@Param("accountId") Long accountId);
+
+    // 핫 계좌 여부만 조회 (엔티티를 영속성 컨텍스트에 올리지 않아 이후 락 조회가 최신 값을 읽음)
+    @Query("select a.hotAccount from Accounts a where a.accountId = :accountId")
+    Optional<Boolean> findHotAccountFlag(@Param("accountId") Long accountId);
+
+    @Query("select a.accountId from Accounts a where a.accountId in :accountIds")
+    List<Long> findExistingIds(@Param("accountIds") Collection<Long> accountIds);
+
+    @Query("select a.accountId from Accounts a where a.hotAccount = true")
+    List<Long> findHotAccountIds();
+
+    // 주어진 계좌 중 핫 계좌 ID (대량 송금 입금 경로 분기)
+    @Query("select a.accountId from Accounts a where a.hotAccount = true and a.accountId in :accountIds")
+    List<Long> findHotAccountIdsIn(@Param("accountIds") Collection<Long> accountIds);
+
+    // 여러 계좌를 계좌 ID 오름차순으로 한 번에 락 (배치 처리 시 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Accounts a where a.accountId in :accountIds order by a.accountId")
+    List<Accounts> findAllByIdInForUpdate(@Param("accountIds") Collection<Long> accountIds);
 }
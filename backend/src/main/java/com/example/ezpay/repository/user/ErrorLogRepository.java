@@ -2,6 +2,7 @@ package com.example.ezpay.repository.user;
 
 import com.example.ezpay.shared.common.enums.ErrorLogStatus;
 import com.example.ezpay.model.user.ErrorLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +11,6 @@ import java.util.List;
 @Repository
 public interface ErrorLogRepository extends JpaRepository<ErrorLog, Long> {
     List<ErrorLog> findByStatus(ErrorLogStatus status); // 특정 상태의 장애 로그 조회
+    long countByStatus(ErrorLogStatus status);
+    List<ErrorLog> findAllByOrderByOccurredAtDesc(Pageable pageable); // 최근 장애 로그 top-N
 }
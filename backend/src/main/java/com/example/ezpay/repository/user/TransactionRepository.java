@@ -5,10 +5,27 @@ import com.example.ezpay.repository.queryDSL.TransactionRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionRepositoryCustom {
     Page<Transaction> findBySenderAccount_AccountIdOrReceiverAccount_AccountId(Long senderId, Long receiverId, Pageable pageable);
     Optional<Transaction> findByRequestId(String requestId);
+    List<Transaction> findByRequestIdIn(Collection<String> requestIds);
+
+    // 최근 거래 top-N (송금인 이름까지 한 번에 조회, idx_transactions_date_id 역순 스캔)
+    @Query("select t from Transaction t join fetch t.senderAccount s join fetch s.user join fetch t.receiverAccount " +
+            "order by t.transactionDate desc")
+    List<Transaction> findRecentWithSender(Pageable pageable);
+
+    // 멱등성 Bloom filter 워밍업용 (transactionId 기준 키셋 페이지네이션, [transactionId, requestId])
+    @Query("select t.transactionId, t.requestId from Transaction t " +
+            "where t.transactionDate >= :since and t.transactionId > :afterId and t.requestId is not null " +
+            "order by t.transactionId")
+    List<Object[]> findRequestIdsSince(@Param("since") Timestamp since, @Param("afterId") Long afterId, Pageable pageable);
 }
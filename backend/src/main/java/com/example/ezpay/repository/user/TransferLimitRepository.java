@@ -2,12 +2,43 @@ package com.example.ezpay.repository.user;
 
 import com.example.ezpay.model.user.TransferLimit;
 import com.example.ezpay.model.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface TransferLimitRepository extends JpaRepository<TransferLimit, Long> {
+
+    // 사용자별 한도 + 이름 + 오늘 누적 송금액 (계좌별 일일 카운터를 사용자 단위로 합산하는 GROUP BY 한 번)
+    String OVERVIEW_QUERY = "select tl.userId as userId, u.name as userName, tl.dailyLimit as dailyLimit, " +
+            "tl.perTransactionLimit as perTransactionLimit, coalesce(sum(d.amount), 0) as usedAmount " +
+            "from TransferLimit tl join tl.user u " +
+            "left join Accounts a on a.user = u " +
+            "left join DailyTransferSpend d on d.accountId = a.accountId and d.spendDate = :date " +
+            "group by tl.userId, u.name, tl.dailyLimit, tl.perTransactionLimit " +
+            "order by tl.userId";
+
     Optional<TransferLimit> findByUserId(Long userId);
     Optional<TransferLimit> findByUser(User user);
     void deleteByUser_UserId(Long userId);
+
+    @Query(OVERVIEW_QUERY)
+    List<TransferLimitOverview> findOverview(@Param("date") LocalDate date);
+
+    @Query(value = OVERVIEW_QUERY, countQuery = "select count(tl) from TransferLimit tl")
+    Page<TransferLimitOverview> findOverview(@Param("date") LocalDate date, Pageable pageable);
+
+    interface TransferLimitOverview {
+        Long getUserId();
+        String getUserName();
+        BigDecimal getDailyLimit();
+        BigDecimal getPerTransactionLimit();
+        BigDecimal getUsedAmount();
+    }
 }
@@ -1,24 +1,58 @@
 package com.example.ezpay.repository.user.impl;
 
+import com.example.ezpay.model.user.QAccounts;
 import com.example.ezpay.model.user.QTransaction;
 import com.example.ezpay.model.user.Transaction;
+import com.example.ezpay.modules.payment.api.dto.TransactionInfo;
 import com.example.ezpay.repository.queryDSL.TransactionRepositoryCustom;
+import com.example.ezpay.repository.queryDSL.TransactionSearchCondition;
+import com.example.ezpay.shared.common.enums.TimeBucket;
 import com.example.ezpay.shared.common.enums.TransactionStatus;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Repository
-@RequiredArgsConstructor
 public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
 
+    // PostgreSQL: date_trunc 로 버킷 시작 시각을 바로 계산 (단위는 TimeBucket 상수라 SQL 에 직접 넣음)
+    private static final String DATE_TRUNC_BUCKET_SQL =
+            "select date_trunc('%s', t.transaction_date) as bucket_start, count(*) as tx_count, coalesce(sum(t.amount), 0) as volume " +
+                    "from transactions t where t.transaction_date >= ? and t.transaction_date < ?%s " +
+                    "group by date_trunc('%s', t.transaction_date) order by bucket_start";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean dateTruncSupported;
+
+    public TransactionRepositoryImpl(JPAQueryFactory queryFactory, JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.queryFactory = queryFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dateTruncSupported = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
 
     @Override
     public List<Transaction> findTransactionByAccount(Long accountId) {
@@ -67,4 +101,217 @@ public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
                         .and(transaction.transactionDate.lt(end)))
                 .fetchOne();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<BucketStats> countByTimeBucket(TimeBucket bucket, LocalDateTime from, LocalDateTime to, TransactionStatus status) {
+        return dateTruncSupported
+                ? countByDateTrunc(bucket, from, to, status)
+                : countByDateFields(bucket, from, to, status);
+    }
+
+    private List<BucketStats> countByDateTrunc(TimeBucket bucket, LocalDateTime from, LocalDateTime to, TransactionStatus status) {
+        String sql = DATE_TRUNC_BUCKET_SQL.formatted(bucket.getSqlUnit(), status != null ? " and t.status = ?" : "", bucket.getSqlUnit());
+        List<Object> args = new ArrayList<>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        if (status != null) {
+            args.add(status.name());
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BucketStats(
+                rs.getTimestamp("bucket_start").toLocalDateTime(),
+                rs.getLong("tx_count"),
+                rs.getBigDecimal("volume")
+        ), args.toArray());
+    }
+
+    // H2 등 date_trunc 가 없는 DB: 연/월/일/시/분 필드로 묶은 뒤 버킷 시작 시각을 조립
+    private List<BucketStats> countByDateFields(TimeBucket bucket, LocalDateTime from, LocalDateTime to, TransactionStatus status) {
+        QTransaction transaction = QTransaction.transaction;
+
+        List<NumberExpression<Integer>> fields = new ArrayList<>();
+        fields.add(transaction.transactionDate.year());
+        fields.add(transaction.transactionDate.month());
+        if (bucket != TimeBucket.MONTH) {
+            fields.add(transaction.transactionDate.dayOfMonth());
+        }
+        if (bucket == TimeBucket.HOUR || bucket == TimeBucket.MINUTE) {
+            fields.add(transaction.transactionDate.hour());
+        }
+        if (bucket == TimeBucket.MINUTE) {
+            fields.add(transaction.transactionDate.minute());
+        }
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(transaction.transactionDate.goe(Timestamp.valueOf(from)))
+                .and(transaction.transactionDate.lt(Timestamp.valueOf(to)));
+        if (status != null) {
+            where.and(transaction.status.eq(status));
+        }
+
+        NumberExpression<Long> count = transaction.count();
+        NumberExpression<BigDecimal> volume = transaction.amount.sum();
+        List<Expression<?>> select = new ArrayList<>(fields);
+        select.add(count);
+        select.add(volume);
+
+        List<Tuple> rows = queryFactory
+                .select(select.toArray(new Expression<?>[0]))
+                .from(transaction)
+                .where(where)
+                .groupBy(fields.toArray(new Expression<?>[0]))
+                .orderBy(fields.stream().map(NumberExpression::asc).toArray(OrderSpecifier[]::new))
+                .fetch();
+
+        List<BucketStats> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            int[] values = new int[]{0, 1, 1, 0, 0};
+            for (int i = 0; i < fields.size(); i++) {
+                values[i] = row.get(fields.get(i));
+            }
+            LocalDateTime bucketStart = LocalDateTime.of(values[0], values[1], values[2], values[3], values[4]);
+            BigDecimal sum = row.get(volume);
+            result.add(new BucketStats(bucketStart, row.get(count), sum != null ? sum : BigDecimal.ZERO));
+        }
+        return result;
+    }
+
+    @Override
+    public List<TransactionInfo> searchByKeyset(TransactionSearchCondition condition, Keyset after, int limit) {
+        QTransaction transaction = QTransaction.transaction;
+
+        BooleanBuilder where = new BooleanBuilder();
+        if (condition.getStatus() != null) {
+            where.and(transaction.status.eq(condition.getStatus()));
+        }
+        if (condition.getMinAmount() != null) {
+            where.and(transaction.amount.goe(condition.getMinAmount()));
+        }
+        if (condition.getMaxAmount() != null) {
+            where.and(transaction.amount.loe(condition.getMaxAmount()));
+        }
+        if (condition.getCategory() != null) {
+            where.and(transaction.category.eq(condition.getCategory()));
+        }
+        if (condition.getFrom() != null) {
+            where.and(transaction.transactionDate.goe(Timestamp.valueOf(condition.getFrom())));
+        }
+        if (condition.getTo() != null) {
+            where.and(transaction.transactionDate.lt(Timestamp.valueOf(condition.getTo())));
+        }
+        if (after != null) {
+            // (transactionDate, transactionId) < (after.transactionDate, after.transactionId)
+            // 앞의 transactionDate <= 조건이 인덱스 범위 조건이 되어 이전 페이지 행을 다시 읽지 않음
+            Timestamp afterDate = Timestamp.valueOf(after.transactionDate());
+            where.and(transaction.transactionDate.loe(afterDate))
+                    .and(transaction.transactionDate.lt(afterDate)
+                            .or(transaction.transactionId.lt(after.transactionId())));
+        }
+
+        Long accountId = condition.getAccountId();
+        if (accountId == null) {
+            return toTransactionInfos(fetchKeysetPage(transaction, where, limit), transaction);
+        }
+
+        // 송금/수신 계좌를 OR 로 묶으면 어느 인덱스로도 키셋 순서를 얻을 수 없으므로
+        // (sender|receiver, transactionDate, transactionId) 인덱스를 각각 타는 두 조회를 병합 (UNION ALL + LIMIT 과 같은 결과)
+        List<Tuple> sent = fetchKeysetPage(transaction, new BooleanBuilder(where).and(transaction.senderAccount.accountId.eq(accountId)), limit);
+        List<Tuple> received = fetchKeysetPage(transaction, new BooleanBuilder(where).and(transaction.receiverAccount.accountId.eq(accountId)), limit);
+        return toTransactionInfos(mergeKeysetPages(sent, received, transaction, limit), transaction);
+    }
+
+    private List<Tuple> fetchKeysetPage(QTransaction transaction, BooleanBuilder where, int limit) {
+        return queryFactory
+                .select(transactionInfoColumns(transaction))
+                .from(transaction)
+                .where(where)
+                .orderBy(transaction.transactionDate.desc(), transaction.transactionId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 이미 (거래 일시, 거래 ID) 역순인 두 목록을 같은 순서로 병합해 상위 limit 건
+    private static List<Tuple> mergeKeysetPages(List<Tuple> first, List<Tuple> second, QTransaction transaction, int limit) {
+        Comparator<Tuple> newestFirst = Comparator
+                .comparing((Tuple row) -> row.get(transaction.transactionDate), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(row -> row.get(transaction.transactionId), Comparator.reverseOrder());
+        List<Tuple> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        Set<Long> seen = new HashSet<>();
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            Tuple next = j >= second.size() || (i < first.size() && newestFirst.compare(first.get(i), second.get(j)) <= 0)
+                    ? first.get(i++)
+                    : second.get(j++);
+            if (seen.add(next.get(transaction.transactionId))) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public List<TransactionInfo> findUserTransactions(Long userId, long offset, int limit) {
+        QTransaction transaction = QTransaction.transaction;
+
+        List<Tuple> rows = queryFactory
+                .select(transactionInfoColumns(transaction))
+                .from(transaction)
+                .where(involvesUser(transaction, userId))
+                .orderBy(transaction.transactionDate.desc(), transaction.transactionId.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+        return toTransactionInfos(rows, transaction);
+    }
+
+    @Override
+    public List<StatusStats> summarizeUserTransactions(Long userId) {
+        QTransaction transaction = QTransaction.transaction;
+
+        NumberExpression<Long> count = transaction.count();
+        NumberExpression<BigDecimal> volume = transaction.amount.sum();
+        return queryFactory
+                .select(transaction.status, count, volume)
+                .from(transaction)
+                .where(involvesUser(transaction, userId))
+                .groupBy(transaction.status)
+                .fetch()
+                .stream()
+                .map(row -> new StatusStats(row.get(transaction.status), row.get(count),
+                        row.get(volume) != null ? row.get(volume) : BigDecimal.ZERO))
+                .toList();
+    }
+
+    // 사용자 계좌가 송금 또는 수신 계좌인 거래 (계좌 ID 서브쿼리라 본인 계좌 간 이체도 한 행)
+    private static BooleanExpression involvesUser(QTransaction transaction, Long userId) {
+        QAccounts accounts = QAccounts.accounts;
+        JPQLQuery<Long> accountIds = JPAExpressions
+                .select(accounts.accountId)
+                .from(accounts)
+                .where(accounts.user.userId.eq(userId));
+        return transaction.senderAccount.accountId.in(accountIds)
+                .or(transaction.receiverAccount.accountId.in(accountIds));
+    }
+
+    // 엔티티 대신 TransactionInfo 에 필요한 컬럼만 조회 (계좌 ID 는 FK 컬럼이라 계좌 테이블 조인 없음)
+    private static Expression<?>[] transactionInfoColumns(QTransaction transaction) {
+        return new Expression<?>[]{transaction.transactionId, transaction.senderAccount.accountId, transaction.receiverAccount.accountId,
+                transaction.amount, transaction.memo, transaction.category, transaction.status, transaction.transactionDate};
+    }
+
+    private static List<TransactionInfo> toTransactionInfos(List<Tuple> rows, QTransaction transaction) {
+        List<TransactionInfo> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Timestamp transactionDate = row.get(transaction.transactionDate);
+            result.add(TransactionInfo.builder()
+                    .transactionId(row.get(transaction.transactionId))
+                    .senderAccountId(row.get(transaction.senderAccount.accountId))
+                    .receiverAccountId(row.get(transaction.receiverAccount.accountId))
+                    .amount(row.get(transaction.amount))
+                    .memo(row.get(transaction.memo))
+                    .category(row.get(transaction.category))
+                    .status(row.get(transaction.status))
+                    .createdAt(transactionDate != null ? transactionDate.toLocalDateTime() : null)
+                    .build());
+        }
+        return result;
+    }
+}
@@ -2,18 +2,22 @@ package com.example.ezpay.service.user.impl;
 
 import com.example.ezpay.shared.common.enums.ErrorLogStatus;
 import com.example.ezpay.model.user.ErrorLog;
+import com.example.ezpay.modules.dashboard.service.RecentActivityBuffer;
 import com.example.ezpay.repository.user.ErrorLogRepository;
 import com.example.ezpay.service.user.ErrorLogService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class ErrorLogServiceImpl implements ErrorLogService {
     private final ErrorLogRepository errorLogRepository;
+    private final ErrorLogWriter errorLogWriter;
+    private final RecentActivityBuffer recentActivityBuffer;
 
     @Override
     @Transactional
@@ -25,16 +29,11 @@ public class ErrorLogServiceImpl implements ErrorLogService {
     }
 
 
-    // 장애 발생시 로그 추가
+    // 장애 발생시 로그 추가 - 버퍼에 넣고 바로 반환 (기록은 ErrorLogWriter 가 배치로 처리)
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW) // 💡 별도 트랜잭션 적용
     public void logError(String serviceName, String errorMessage, ErrorLogStatus status) {
-        ErrorLog log = ErrorLog.builder()
-                .serviceName(serviceName)
-                .errorMessage(errorMessage)
-                .status(status)
-                .build();
-        errorLogRepository.save(log);
+        errorLogWriter.append(serviceName, errorMessage, status);
+        recentActivityBuffer.recordErrorLog(serviceName, errorMessage, status, LocalDateTime.now());
     }
 
 
@@ -0,0 +1,167 @@
+package com.example.ezpay.service.user.impl;
+
+import com.example.ezpay.shared.common.enums.ErrorLogStatus;
+import com.example.ezpay.shared.persistence.IdSequences;
+import com.example.ezpay.shared.util.RingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 장애 로그 비동기 기록기
+ * - logError 호출 스레드는 lock-free 링 버퍼에 넣기만 하고 바로 돌아간다. (DB 커넥션을 잡지 않음)
+ * - 백그라운드 스레드 하나가 버퍼를 모아 JDBC 배치 insert 로 기록한다.
+ * - 버퍼가 가득 차면 버리고 건수만 세며, 다음 flush 때 누락 건수를 장애 로그 한 건으로 남긴다.
+ */
+@Slf4j
+@Component
+public class ErrorLogWriter {
+
+    private static final String INSERT_ERROR_LOG_SQL =
+            "insert into error_logs (log_id, service_name, error_message, occurred_at, status) values (?, ?, ?, ?, ?)";
+    private static final String DROPPED_SERVICE_NAME = "ErrorLogWriter";
+    // error_logs.service_name / error_message 컬럼 길이 (기본 varchar(255))
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequences idSequences;
+    private final RingBuffer<PendingErrorLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    // 다음 flush 때 보고할 누락 건수 / 누적 누락 건수
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean running;
+    private Thread writer;
+
+    public ErrorLogWriter(JdbcTemplate jdbcTemplate,
+                          IdSequences idSequences,
+                          @Value("${ezpay.error-log.buffer.capacity:8192}") int capacity,
+                          @Value("${ezpay.error-log.buffer.batch-size:500}") int batchSize,
+                          @Value("${ezpay.error-log.buffer.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequences = idSequences;
+        this.buffer = new RingBuffer<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "error-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 남은 로그까지 기록
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void append(String serviceName, String errorMessage, ErrorLogStatus status) {
+        // 긴 예외 메시지 한 건이 배치 전체를 실패시키지 않도록 컬럼 길이로 자름
+        PendingErrorLog errorLog = new PendingErrorLog(truncate(serviceName), truncate(errorMessage), status, LocalDateTime.now());
+        if (!buffer.offer(errorLog)) {
+            dropped.incrementAndGet();
+            droppedTotal.incrementAndGet();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(buffer.size(), buffer.capacity(), written.get(), droppedTotal.get(), failed.get());
+    }
+
+    private void run() {
+        List<PendingErrorLog> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            batch.clear();
+            buffer.drainTo(batch, batchSize);
+
+            long droppedSinceLastFlush = dropped.getAndSet(0);
+            if (droppedSinceLastFlush > 0) {
+                batch.add(new PendingErrorLog(DROPPED_SERVICE_NAME,
+                        "장애 로그 버퍼 포화로 " + droppedSinceLastFlush + "건 누락", ErrorLogStatus.UNRESOLVED, LocalDateTime.now()));
+                log.warn("장애 로그 버퍼 포화: {}건 누락", droppedSinceLastFlush);
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+            // 한 번에 다 못 꺼냈으면 바로 다음 배치, 아니면 flush 주기만큼 대기
+            if (batch.size() < batchSize && running) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+    }
+
+    private void write(List<PendingErrorLog> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        try {
+            List<Long> ids = idSequences.reserve(IdSequences.ERROR_LOGS, batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                PendingErrorLog errorLog = batch.get(i);
+                rows.add(new Object[]{ids.get(i), errorLog.serviceName(), errorLog.errorMessage(),
+                        Timestamp.valueOf(errorLog.occurredAt()), errorLog.status() != null ? errorLog.status().name() : null});
+            }
+            jdbcTemplate.batchUpdate(INSERT_ERROR_LOG_SQL, rows);
+            written.addAndGet(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            // 특정 행의 데이터 문제: 한 건씩 다시 기록해 문제 행만 버림
+            writeEach(batch, rows);
+        } catch (Exception e) {
+            // DB 장애 중에는 애플리케이션 로그로만 남김
+            failed.addAndGet(batch.size());
+            log.error("장애 로그 {}건 기록 실패 (첫 건: {} - {}): {}", batch.size(),
+                    batch.get(0).serviceName(), batch.get(0).errorMessage(), e.getMessage());
+        }
+    }
+
+    private void writeEach(List<PendingErrorLog> batch, List<Object[]> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                jdbcTemplate.update(INSERT_ERROR_LOG_SQL, rows.get(i));
+                written.incrementAndGet();
+            } catch (DuplicateKeyException e) {
+                // autocommit 배치에서 실패 행 이전까지 이미 기록된 행 (log_id 를 미리 배정해 중복 기록되지 않음)
+                written.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error("장애 로그 기록 실패 ({} - {}): {}", batch.get(i).serviceName(), batch.get(i).errorMessage(), e.getMessage());
+            }
+        }
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_COLUMN_LENGTH ? value.substring(0, MAX_COLUMN_LENGTH) : value;
+    }
+
+    private record PendingErrorLog(String serviceName, String errorMessage, ErrorLogStatus status, LocalDateTime occurredAt) {
+    }
+
+    public record Stats(int buffered, int capacity, long written, long dropped, long failed) {
+    }
+}
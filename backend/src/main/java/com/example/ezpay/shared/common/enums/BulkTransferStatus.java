@@ -0,0 +1,7 @@
+package com.example.ezpay.shared.common.enums;
+
+public enum BulkTransferStatus {
+    PROCESSING,          // 출금 완료, 수신 계좌 입금 진행 중
+    COMPLETED,           // 모든 건 입금 완료
+    PARTIALLY_COMPLETED, // 일부 건 실패 (실패 금액은 출금 계좌로 환불됨)
+}
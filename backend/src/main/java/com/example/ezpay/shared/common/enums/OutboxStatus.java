@@ -0,0 +1,8 @@
+package com.example.ezpay.shared.common.enums;
+
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 (재시도 대기 포함)
+    PROCESSING, // 디스패처가 점유 중 (lease 만료 시 다시 점유 가능)
+    DONE,
+    FAILED,     // 재시도 한도 초과
+}
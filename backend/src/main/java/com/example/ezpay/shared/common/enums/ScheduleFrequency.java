@@ -0,0 +1,21 @@
+package com.example.ezpay.shared.common.enums;
+
+import java.time.LocalDateTime;
+
+// 예약 송금 반복 주기 - n 번째 실행 시각은 항상 최초 실행 시각 기준으로 계산 (31일 -> 2월 말 -> 3월 31일)
+public enum ScheduleFrequency {
+    ONCE,
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    // runIndex 번째(0부터) 실행 시각, 더 이상 실행이 없으면 null
+    public LocalDateTime runAt(LocalDateTime firstRunAt, int runIndex) {
+        return switch (this) {
+            case ONCE -> runIndex == 0 ? firstRunAt : null;
+            case DAILY -> firstRunAt.plusDays(runIndex);
+            case WEEKLY -> firstRunAt.plusWeeks(runIndex);
+            case MONTHLY -> firstRunAt.plusMonths(runIndex);
+        };
+    }
+}
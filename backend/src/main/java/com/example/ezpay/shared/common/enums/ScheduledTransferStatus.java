@@ -0,0 +1,7 @@
+package com.example.ezpay.shared.common.enums;
+
+public enum ScheduledTransferStatus {
+    ACTIVE,    // 다음 실행 대기 중
+    COMPLETED, // 마지막 회차까지 실행됨
+    CANCELLED, // 사용자가 취소
+}
@@ -0,0 +1,41 @@
+package com.example.ezpay.shared.common.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 시계열 집계 버킷 단위 (sqlUnit 은 PostgreSQL date_trunc 단위)
+public enum TimeBucket {
+    MINUTE("minute", ChronoUnit.MINUTES),
+    HOUR("hour", ChronoUnit.HOURS),
+    DAY("day", ChronoUnit.DAYS),
+    MONTH("month", ChronoUnit.MONTHS);
+
+    private final String sqlUnit;
+    private final ChronoUnit unit;
+
+    TimeBucket(String sqlUnit, ChronoUnit unit) {
+        this.sqlUnit = sqlUnit;
+        this.unit = unit;
+    }
+
+    public String getSqlUnit() {
+        return sqlUnit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return this == MONTH
+                ? time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS)
+                : time.truncatedTo(unit);
+    }
+
+    public LocalDateTime plus(LocalDateTime bucketStart, long buckets) {
+        return bucketStart.plus(buckets, unit);
+    }
+
+    // [from, to) 구간을 덮는 버킷 수
+    public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime first = truncate(from);
+        long buckets = unit.between(first, to);
+        return plus(first, buckets).isBefore(to) ? buckets + 1 : buckets;
+    }
+}
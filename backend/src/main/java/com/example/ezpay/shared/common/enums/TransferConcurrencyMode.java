@@ -0,0 +1,7 @@
+package com.example.ezpay.shared.common.enums;
+
+// 송금 처리 시 계좌 잔액 동시성 제어 방식
+public enum TransferConcurrencyMode {
+    PESSIMISTIC, // SELECT ... FOR UPDATE 로 두 계좌 행 락
+    OPTIMISTIC,  // 락 없이 조회 후 버전 조건부 UPDATE, 충돌 시 재시도
+}
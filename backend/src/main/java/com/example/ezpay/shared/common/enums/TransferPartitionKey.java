@@ -0,0 +1,7 @@
+package com.example.ezpay.shared.common.enums;
+
+// transfer-events 토픽 파티션 선택 기준
+public enum TransferPartitionKey {
+    SENDER,       // 송금 계좌 ID - 같은 계좌에서 나가는 송금은 한 파티션에서 순서대로 처리
+    ACCOUNT_PAIR, // 정렬된 (계좌, 계좌) 쌍 - A→B, B→A 가 한 파티션에서 처리
+}
@@ -0,0 +1,11 @@
+package com.example.ezpay.shared.common.enums;
+
+// 송금 파이프라인 구간 (지연 시간 측정 단위)
+public enum TransferStage {
+    PRODUCE,          // 송금 요청 -> Kafka 발행 완료
+    QUEUE_DWELL,      // 레코드 타임스탬프 -> 컨슈머 수신
+    LOCK_ACQUISITION, // 계좌 행 락(낙관적 모드는 계좌 조회) 획득
+    VALIDATION,       // 한도/잔액 검증
+    PERSISTENCE,      // 잔액/거래 저장 + 커밋
+    SIDE_EFFECTS,     // 아웃박스 후처리(메일/학습데이터/실시간 전송)
+}
@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 // 모듈별 Config(@EnableJpaRepositories("...modules.*.internal.repository"))가 커버하지 않는
 // 레거시/공유 리포지토리 패키지를 등록한다. 모듈 internal.repository와 겹치지 않아 중복 Bean이 발생하지 않는다.
@@ -18,7 +19,10 @@ import org.springframework.transaction.PlatformTransactionManager;
         "com.example.ezpay.repository",
         "com.example.ezpay.modules.kafka.repository",
         "com.example.ezpay.modules.systemlog.repository",
-        "com.example.ezpay.modules.risk.repository"
+        "com.example.ezpay.modules.risk.repository",
+        "com.example.ezpay.modules.outbox.repository",
+        "com.example.ezpay.modules.ledger.repository",
+        "com.example.ezpay.modules.dashboard.repository"
 })
 public class JpaConfig {
     @PersistenceContext
@@ -37,4 +41,10 @@ public class JpaConfig {
     public PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
         return new JpaTransactionManager(emf);
     }
+
+    // 재시도 단위마다 새 트랜잭션이 필요한 곳(낙관적 락 송금 등)에서 사용
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
 }
@@ -2,6 +2,7 @@ package com.example.ezpay.shared.exception;
 
 import com.example.ezpay.shared.common.dto.CommonResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +35,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    // 낙관적 락 재시도 한도 초과 (동시 갱신 충돌)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<CommonResponse<Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(
+                "error", null, "다른 요청과 동시에 처리되어 실패했습니다. 잠시 후 다시 시도해주세요."
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // 인프로세스 송금 엔진 큐 포화 (백프레셔)
+    @ExceptionHandler(TransferQueueFullException.class)
+    public ResponseEntity<CommonResponse<Object>> handleTransferQueueFullException(TransferQueueFullException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(
+                "error", null, ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CommonResponse<Object>> handleGenericException(Exception ex) {
         log.error("처리되지 않은 예외 발생", ex);
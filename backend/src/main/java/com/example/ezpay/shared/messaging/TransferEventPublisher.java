@@ -0,0 +1,14 @@
+package com.example.ezpay.shared.messaging;
+
+import com.example.ezpay.shared.messaging.events.TransferEvent;
+
+/**
+ * 송금 이벤트 발행 (비동기 처리 경로)
+ * - ezpay.kafka.enabled=true : TransactionProducer (Kafka 트랜잭션 발행)
+ * - ezpay.kafka.enabled=false : InProcessTransferEngine (JVM 내부 파티션 큐 + 로컬 저널)
+ * 어느 쪽이든 발행이 끝나면 requestId 로 처리 결과를 조회할 수 있어야 한다.
+ */
+public interface TransferEventPublisher {
+
+    void sendTransferEvent(TransferEvent event);
+}
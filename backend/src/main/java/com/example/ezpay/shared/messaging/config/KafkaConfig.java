@@ -1,5 +1,6 @@
 package com.example.ezpay.shared.messaging.config;
 
+import com.example.ezpay.kafka.AccountAffinityPartitioner;
 import com.example.ezpay.shared.messaging.events.TransferEvent;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -23,6 +24,7 @@ import org.springframework.beans.factory.annotation.Value;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 @Configuration
 @ConditionalOnProperty(name = "ezpay.kafka.enabled", havingValue = "true", matchIfMissing = true)
@@ -34,6 +36,19 @@ public class KafkaConfig {
     @Value("${spring.kafka.listener.auto-startup:false}")
     private boolean kafkaListenerAutoStartup;
 
+    @Value("${ezpay.kafka.transfer.batch.max-poll-records:200}")
+    private int transferBatchMaxPollRecords;
+
+    @Value("${ezpay.kafka.event-batch.max-poll-records:500}")
+    private int eventBatchMaxPollRecords;
+
+    // transfer-events 파티션 수 (리스너 concurrency 보다 크거나 같게 설정)
+    @Value("${ezpay.kafka.transfer.partitions:12}")
+    private int transferPartitions;
+
+    @Value("${ezpay.kafka.transfer.partition-key:SENDER}")
+    private String transferPartitionKey;
+
     public static final String TRANSFER_EVENTS_TOPIC = "transfer-events";
     public static final String TRANSFER_EVENTS_DLT = TRANSFER_EVENTS_TOPIC + ".DLT";
 
@@ -44,12 +59,13 @@ public class KafkaConfig {
     // == Topic 정의 ==
     @Bean
     public NewTopic transferEventsTopic() {
-        return new NewTopic(TRANSFER_EVENTS_TOPIC, 1, (short) 1);
+        return new NewTopic(TRANSFER_EVENTS_TOPIC, transferPartitions, (short) 1);
     }
 
+    // DLT 는 원본과 같은 파티션 번호로 보내므로 파티션 수를 맞춤
     @Bean
     public NewTopic transferEventsDltTopic() {
-        return new NewTopic(TRANSFER_EVENTS_DLT, 1, (short) 1);
+        return new NewTopic(TRANSFER_EVENTS_DLT, transferPartitions, (short) 1);
     }
 
     @Bean
@@ -78,6 +94,9 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "tx-ezpay-"); // ✅ 트랜잭션 설정
+        // 같은 계좌의 송금이 같은 파티션으로 가도록 계좌 기준 파티셔너 사용
+        configProps.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, AccountAffinityPartitioner.class);
+        configProps.put(AccountAffinityPartitioner.PARTITION_KEY_CONFIG, transferPartitionKey);
 
         DefaultKafkaProducerFactory<String, TransferEvent> factory = new DefaultKafkaProducerFactory<>(configProps);
         factory.setTransactionIdPrefix("tx-ezpay-");
@@ -153,4 +172,59 @@ public class KafkaConfig {
 
         return factory;
     }
+
+    /*
+        송금 이벤트 배치 리스너 설정 (ezpay.kafka.transfer.batch.enabled=true 일 때 사용)
+        poll 단위로 이벤트를 받아 한 번에 처리하고, 리스너가 BatchListenerFailedException으로
+        실패 인덱스를 알려주면 앞선 레코드는 커밋하고 실패 레코드만 재시도 후 DLT로 보낸다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, TransferEvent> transferBatchListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, TransferEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setAutoStartup(kafkaListenerAutoStartup);
+        factory.setBatchListener(true);
+
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(transferBatchMaxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + ".DLT", record.partition()));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 2)));
+
+        return factory;
+    }
+
+    /*
+        시스템 로그/위험거래 이벤트 배치 리스너 설정
+        poll 단위로 받은 이벤트를 한 트랜잭션에서 저장해 insert 를 JDBC 배치로 묶는다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> eventBatchListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setAutoStartup(kafkaListenerAutoStartup);
+        factory.setBatchListener(true);
+
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(eventBatchMaxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + ".DLT", record.partition()));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 2)));
+
+        return factory;
+    }
 }
@@ -0,0 +1,95 @@
+package com.example.ezpay.shared.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 insert 테이블의 ID 시퀀스 (pooled-lo)
+ * - 시퀀스는 ALLOCATION_SIZE 씩 증가하고, nextval 로 받은 값 v 부터 v + ALLOCATION_SIZE - 1 까지를 한 번에 쓴다.
+ *   (hibernate.id.optimizer.pooled.preferred=pooled-lo 와 같은 규칙이라 JPA 저장과 JDBC 배치 insert 가 섞여도 겹치지 않음)
+ * - IDENTITY 로 쌓인 기존 행보다 시퀀스가 뒤에 있으면 기동 시 max(id) + 1 로 옮긴다.
+ *   여러 인스턴스를 처음 배포할 때는 한 인스턴스가 먼저 기동을 마친 뒤 나머지를 띄운다.
+ */
+@Slf4j
+@Component
+public class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+    public static final String TRANSACTIONS = "transactions_seq";
+    public static final String ERROR_LOGS = "error_logs_seq";
+
+    // 시퀀스 이름 -> {테이블, ID 컬럼}
+    private static final Map<String, String[]> SEQUENCE_TABLES = Map.of(
+            TRANSACTIONS, new String[]{"transactions", "transaction_id"},
+            ERROR_LOGS, new String[]{"error_logs", "log_id"},
+            "system_logs_seq", new String[]{"system_logs", "id"},
+            "risk_transactions_seq", new String[]{"risk_transactions", "id"},
+            "login_history_seq", new String[]{"login_history", "id"},
+            "failed_event_log_seq", new String[]{"failed_event_log", "id"},
+            "outbox_events_seq", new String[]{"outbox_events", "id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final boolean alignOnStartup;
+
+    public IdSequences(JdbcTemplate jdbcTemplate,
+                       EntityManagerFactory entityManagerFactory,
+                       @Value("${ezpay.persistence.sequence-alignment.enabled:true}") boolean alignOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.alignOnStartup = alignOnStartup;
+    }
+
+    @PostConstruct
+    public void alignWithExistingRows() {
+        if (!alignOnStartup) {
+            return;
+        }
+        SEQUENCE_TABLES.forEach((sequence, table) -> {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("select max(" + table[1] + ") from " + table[0], Long.class);
+                if (maxId == null) {
+                    return;
+                }
+                long next = nextValue(sequence);
+                if (next <= maxId) {
+                    jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (maxId + 1));
+                    log.info("ID 시퀀스 정렬: {} {} -> {}", sequence, next, maxId + 1);
+                }
+            } catch (Exception e) {
+                log.error("ID 시퀀스 정렬 실패: {}, {}", sequence, e.getMessage());
+            }
+        });
+    }
+
+    // JDBC 배치 insert 용 ID count 개 예약 (ALLOCATION_SIZE 건마다 nextval 1회)
+    public List<Long> reserve(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            long low = nextValue(sequence);
+            for (int i = 0; i < ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(low + i);
+            }
+        }
+        return ids;
+    }
+
+    private long nextValue(String sequence) {
+        Long value = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        if (value == null) {
+            throw new IllegalStateException("시퀀스 값을 읽을 수 없습니다: " + sequence);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.ezpay.shared.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용 건수를 고르게 나눠 주는 간단한 속도 제한기 (스레드 안전)
+ * - acquire 호출마다 다음 허용 시각을 1/permitsPerSecond 씩 뒤로 미루고, 그 시각까지 대기한다.
+ * - 유휴 구간에 쌓이는 여유분(burst)은 두지 않는다.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(permitsPerSecond, 0.001));
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextFreeNanos < now) {
+                nextFreeNanos = now;
+            }
+            waitNanos = nextFreeNanos - now;
+            nextFreeNanos += intervalNanos;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.ezpay.shared.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기 제한 lock-free 링 버퍼 (다중 생산자/다중 소비자, Vyukov 방식)
+ * - 칸마다 시퀀스 번호를 두고 CAS 로 위치를 확보하므로 생산자가 락이나 대기 없이 넣는다.
+ * - 가득 차면 offer 가 즉시 false 를 반환한다. (호출자가 버리거나 집계)
+ */
+public class RingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    // capacity 는 2의 거듭제곱으로 올림
+    public RingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(T item) {
+        while (true) {
+            long position = enqueuePosition.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    public T poll() {
+        while (true) {
+            long position = dequeuePosition.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+            if (diff == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    T item = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return item;
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    // 최대 maxItems 개를 꺼내 target 에 담고 꺼낸 개수 반환
+    public int drainTo(List<T> target, int maxItems) {
+        int drained = 0;
+        T item;
+        while (drained < maxItems && (item = poll()) != null) {
+            target.add(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public int size() {
+        return (int) Math.max(0, enqueuePosition.get() - dequeuePosition.get());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.ezpay.shared.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 두 세대로 굴러가는 문자열 Bloom filter (스레드 안전)
+ * - put 은 현재 세대에만 기록하고, mightContain 은 현재/이전 세대를 모두 확인한다.
+ * - rotate 호출 시 이전 세대를 버리므로, 회전 주기 T 에 대해 최소 T ~ 최대 2T 동안 기록이 유지된다.
+ * - false 는 "확실히 본 적 없음", true 는 "본 적 있을 수 있음"
+ */
+public class RollingBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private volatile Generations generations;
+
+    public RollingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63L));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.generations = new Generations(newBits(), newBits());
+    }
+
+    public void put(String value) {
+        AtomicLongArray bits = generations.current();
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            int index = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+            long mask = 1L << (index & 63);
+            bits.getAndAccumulate(index >>> 6, mask, (current, m) -> current | m);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        Generations snapshot = generations;
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        return contains(snapshot.current(), h1, h2) || contains(snapshot.previous(), h1, h2);
+    }
+
+    // 이전 세대를 버리고 빈 세대를 현재 세대로 만든다.
+    public void rotate() {
+        generations = new Generations(newBits(), generations.current());
+    }
+
+    private boolean contains(AtomicLongArray bits, long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+            if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    // FNV-1a 64bit + 비트 혼합
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Generations(AtomicLongArray current, AtomicLongArray previous) {
+    }
+}
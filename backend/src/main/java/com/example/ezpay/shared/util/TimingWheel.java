@@ -0,0 +1,124 @@
+package com.example.ezpay.shared.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (스레드 안전, 단일 틱 스레드에서 advance 호출)
+ * - 레벨 0 은 tickMs 간격 버킷 wheelSize 개, 상위 레벨은 하위 레벨 한 바퀴를 한 칸으로 쓴다.
+ * - 등록/만료 처리는 O(1) 이고, 먼 시각은 상위 레벨에 있다가 시간이 다가오면 하위 레벨로 내려온다.
+ * - 만료 시각은 tickMs 단위로 올림하므로 항목이 예정 시각보다 먼저 나오지 않는다.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Level<T> root;
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = Math.max(1, tickMs);
+        this.wheelSize = Math.max(2, wheelSize);
+        this.root = new Level<>(this.tickMs, this.wheelSize, startMs);
+    }
+
+    // 이미 만료된 시각이면 false (호출자가 즉시 처리)
+    public synchronized boolean add(long deadlineMs, T item) {
+        long due = Math.floorDiv(deadlineMs + tickMs - 1, tickMs) * tickMs;
+        if (!root.add(new Entry<>(due, item))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    // nowMs 까지 시계를 진행하고 만료된 항목 반환
+    public synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        if (size == 0) {
+            root.reset(nowMs);
+            return expired;
+        }
+
+        List<Entry<T>> drained = new ArrayList<>();
+        while (root.currentTime + tickMs <= nowMs) {
+            long time = root.currentTime + tickMs;
+            // 상위 레벨 경계이면 그 레벨의 현재 버킷도 꺼내서 아래로 재배치
+            for (Level<T> level = root; level != null && time % level.tickMs == 0; level = level.overflow) {
+                level.currentTime = time;
+                level.drain(time, drained);
+            }
+            for (Entry<T> entry : drained) {
+                if (!root.add(entry)) {
+                    expired.add(entry.item());
+                    size--;
+                }
+            }
+            drained.clear();
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private record Entry<T>(long dueMs, T item) {
+    }
+
+    private static final class Level<T> {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final List<List<Entry<T>>> buckets;
+        private final long[] bucketTimes;
+        private long currentTime;
+        private Level<T> overflow;
+
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            this.bucketTimes = new long[wheelSize];
+            this.currentTime = Math.floorDiv(startMs, tickMs) * tickMs;
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.dueMs() < currentTime + tickMs) {
+                return false;
+            }
+            if (entry.dueMs() < currentTime + interval) {
+                long bucketTime = Math.floorDiv(entry.dueMs(), tickMs) * tickMs;
+                int index = (int) Math.floorMod(bucketTime / tickMs, (long) wheelSize);
+                buckets.get(index).add(entry);
+                bucketTimes[index] = bucketTime;
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void drain(long time, List<Entry<T>> target) {
+            int index = (int) Math.floorMod(time / tickMs, (long) wheelSize);
+            List<Entry<T>> bucket = buckets.get(index);
+            if (!bucket.isEmpty() && bucketTimes[index] == time) {
+                target.addAll(bucket);
+                bucket.clear();
+            }
+        }
+
+        // 비어 있을 때 시계를 바로 옮김 (긴 유휴 구간을 틱 단위로 돌지 않도록)
+        private void reset(long nowMs) {
+            currentTime = Math.floorDiv(nowMs, tickMs) * tickMs;
+            if (overflow != null) {
+                overflow.reset(nowMs);
+            }
+        }
+    }
+}
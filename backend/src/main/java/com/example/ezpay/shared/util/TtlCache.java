@@ -0,0 +1,102 @@
+package com.example.ezpay.shared.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 제한(LRU) + TTL read-through 캐시 (스레드 안전)
+ * - 로더가 빈 값을 반환하면 캐시하지 않는다. (없던 설정이 생성되면 바로 보이도록)
+ * - 로딩 도중 invalidate 가 일어나면 로딩 결과를 캐시에 넣지 않아, 무효화 직전 값이 다시 들어가지 않는다.
+ */
+public class TtlCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TtlCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > TtlCache.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return Optional.of(entry.value());
+                }
+                entries.remove(key);
+            }
+        }
+
+        misses.increment();
+        long stamp = invalidations.get();
+        Optional<V> loaded = loader.apply(key);
+        if (loaded.isPresent()) {
+            synchronized (entries) {
+                if (invalidations.get() == stamp) {
+                    entries.put(key, new Entry<>(loaded.get(), now));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return new Stats(name, size, maxSize, hitCount, missCount, evictions.sum(), invalidations.get(),
+                requests == 0 ? 0.0 : (double) hitCount / requests);
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    public record Stats(String name, int size, int maxSize, long hits, long misses, long evictions,
+                        long invalidations, double hitRate) {
+    }
+}
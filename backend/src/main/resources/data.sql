@@ -10,6 +10,12 @@ ALTER TABLE users ALTER COLUMN role SET NOT NULL;
 -- accounts 테이블에 updated_at 컬럼 추가
 ALTER TABLE accounts ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
 
+-- accounts 테이블에 hot_account 컬럼 추가 (입금 분산 슬롯 사용 여부)
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS hot_account BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- accounts 테이블에 version 컬럼 추가 (낙관적 락)
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
 -- transactions 테이블에 category, memo 컬럼 추가
 ALTER TABLE transactions ADD COLUMN IF NOT EXISTS category VARCHAR(255);
 ALTER TABLE transactions ADD COLUMN IF NOT EXISTS memo VARCHAR(255);
@@ -0,0 +1,144 @@
+package com.example.ezpay.benchmark;
+
+import com.example.ezpay.modules.risk.entity.RiskLevel;
+import com.example.ezpay.modules.risk.entity.RiskTransaction;
+import com.example.ezpay.modules.risk.entity.RiskTransactionStatus;
+import com.example.ezpay.modules.risk.repository.RiskTransactionRepository;
+import com.example.ezpay.modules.systemlog.entity.LogLevel;
+import com.example.ezpay.modules.systemlog.entity.SystemLog;
+import com.example.ezpay.modules.systemlog.repository.SystemLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 insert 처리량 벤치마크 (./gradlew benchmark, 기본 test 태스크에서는 제외)
+ * - 이벤트마다 트랜잭션: 기존 Kafka 컨슈머 방식
+ * - 한 트랜잭션 + 배치 크기 1: 행마다 INSERT 왕복 (ID 는 여전히 시퀀스 pooled-lo 로 미리 할당하므로 IDENTITY 기준선은 아님.
+ *   IDENTITY 는 persist 시점마다 INSERT 후 생성 키를 읽어 오므로 이 수치보다 느리다)
+ * - 한 트랜잭션 + JDBC 배치: 시퀀스(pooled-lo) + hibernate.jdbc.batch_size
+ * 기본은 H2 인메모리이므로 실제 수치는 -Dspring.datasource.url=jdbc:postgresql://... 로 PostgreSQL 에서 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class InsertBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InsertBatchingBenchmarkTest.class);
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5000);
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private SystemLogRepository systemLogRepository;
+
+    @Autowired
+    private RiskTransactionRepository riskTransactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void cleanUp() {
+        systemLogRepository.deleteAllInBatch();
+        riskTransactionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void systemLogInsertThroughput() {
+        IntFunction<Object> factory = i -> SystemLog.builder()
+                .logTime(LocalDateTime.now())
+                .level(LogLevel.INFO)
+                .service("benchmark")
+                .message("system log " + i)
+                .build();
+
+        runScenarios("system_logs", factory);
+        assertThat(systemLogRepository.count()).isEqualTo(3L * ROWS);
+    }
+
+    @Test
+    void riskTransactionInsertThroughput() {
+        IntFunction<Object> factory = i -> RiskTransaction.builder()
+                .transactionId("bench-" + i)
+                .level(RiskLevel.CAUTION)
+                .sender("sender-" + i)
+                .receiver("receiver-" + i)
+                .amount(BigDecimal.valueOf(10_000L + i))
+                .transactionDatetime(LocalDateTime.now())
+                .category("benchmark")
+                .reason("benchmark")
+                .status(RiskTransactionStatus.PENDING_REVIEW)
+                .build();
+
+        runScenarios("risk_transactions", factory);
+        assertThat(riskTransactionRepository.count()).isEqualTo(3L * ROWS);
+    }
+
+    private void runScenarios(String table, IntFunction<Object> factory) {
+        // JIT/커넥션 풀 워밍업 (측정 전 삭제)
+        persistInOneTransaction(rows(factory, 500), BATCH_SIZE);
+        cleanUp();
+
+        long perEvent = measure(() -> rows(factory, ROWS).forEach(row ->
+                transactionTemplate.executeWithoutResult(status -> entityManager.persist(row))));
+        long unbatched = measure(() -> persistInOneTransaction(rows(factory, ROWS), 1));
+        long batched = measure(() -> persistInOneTransaction(rows(factory, ROWS), BATCH_SIZE));
+
+        log.info("[insert benchmark] {}, rows={}", table, ROWS);
+        print("transaction per event", perEvent);
+        print("single transaction, batch_size=1", unbatched);
+        print("single transaction, batch_size=" + BATCH_SIZE, batched);
+    }
+
+    private void persistInOneTransaction(List<Object> rows, int batchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < rows.size(); i++) {
+                entityManager.persist(rows.get(i));
+                if ((i + 1) % 1000 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+
+    private static List<Object> rows(IntFunction<Object> factory, int count) {
+        List<Object> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(factory.apply(i));
+        }
+        return rows;
+    }
+
+    private static long measure(Runnable scenario) {
+        long startedAt = System.nanoTime();
+        scenario.run();
+        return System.nanoTime() - startedAt;
+    }
+
+    private static void print(String scenario, long elapsedNanos) {
+        double millis = elapsedNanos / 1_000_000.0;
+        log.info("  {} {} ms {} rows/s", String.format("%-40s", scenario), String.format("%10.1f", millis), String.format("%12.0f", ROWS / (millis / 1000.0)));
+    }
+}